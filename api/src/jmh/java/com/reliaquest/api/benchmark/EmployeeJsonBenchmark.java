@@ -0,0 +1,128 @@
+package com.reliaquest.api.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.client.EmployeeRosterExtractor;
+import com.reliaquest.api.models.Employee;
+import com.reliaquest.api.models.response.APIResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson (de)serialization of {@link Employee} with its prefix naming strategy, using the same
+ * ObjectMapper configuration Spring Boot gives the application: a single employee, and whole
+ * upstream roster responses bound at once or streamed the way replica loads read them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx3g"})
+public class EmployeeJsonBenchmark {
+
+    private static final TypeReference<APIResponse<List<Employee>>> ROSTER_RESPONSE = new TypeReference<>() {
+    };
+
+    @Param({"100", "1000", "10000", "100000", "1000000"})
+    private int rosterSize;
+
+    private ObjectMapper objectMapper;
+
+    private Employee employee;
+
+    private byte[] employeeJson;
+
+    private APIResponse<List<Employee>> rosterResponse;
+
+    private byte[] rosterJson;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        List<Employee> roster = Rosters.generate(rosterSize);
+        employee = roster.get(0);
+        employeeJson = objectMapper.writeValueAsBytes(employee);
+        rosterResponse = new APIResponse<>(roster, "Successfully processed request.");
+        rosterJson = objectMapper.writeValueAsBytes(rosterResponse);
+    }
+
+    @Benchmark
+    public byte[] serializeEmployee() throws IOException {
+        return objectMapper.writeValueAsBytes(employee);
+    }
+
+    @Benchmark
+    public Employee deserializeEmployee() throws IOException {
+        return objectMapper.readValue(employeeJson, Employee.class);
+    }
+
+    @Benchmark
+    public byte[] serializeRoster() throws IOException {
+        return objectMapper.writeValueAsBytes(rosterResponse);
+    }
+
+    @Benchmark
+    public APIResponse<List<Employee>> deserializeRoster() throws IOException {
+        return objectMapper.readValue(rosterJson, ROSTER_RESPONSE);
+    }
+
+    @Benchmark
+    public Integer streamRoster(Blackhole blackhole) throws IOException {
+        return new EmployeeRosterExtractor(objectMapper, blackhole::consume).extractData(new BufferedResponse(rosterJson));
+    }
+
+    private static final class BufferedResponse implements ClientHttpResponse {
+
+        private final byte[] body;
+
+        private BufferedResponse(byte[] body) {
+            this.body = body;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() {
+            return HttpStatus.OK;
+        }
+
+        @Override
+        public String getStatusText() {
+            return HttpStatus.OK.getReasonPhrase();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return new HttpHeaders();
+        }
+
+        @Override
+        public InputStream getBody() {
+            return new ByteArrayInputStream(body);
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
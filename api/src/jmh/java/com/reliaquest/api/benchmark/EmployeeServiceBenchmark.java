@@ -0,0 +1,71 @@
+package com.reliaquest.api.benchmark;
+
+import com.reliaquest.api.configuration.EmployeeReplicaProperties;
+import com.reliaquest.api.models.Employee;
+import com.reliaquest.api.replica.EmployeeReplica;
+import com.reliaquest.api.service.impl.EmployeeService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.cache.support.NoOpCacheManager;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Read paths of {@link EmployeeService} against a loaded replica, with the caches taken out of the
+ * picture so every call does the real work a cache miss would.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx3g"})
+public class EmployeeServiceBenchmark {
+
+    @Param({"100", "1000", "10000", "100000", "1000000"})
+    private int rosterSize;
+
+    private EmployeeService employeeService;
+
+    @Setup
+    public void setUp() {
+        EmployeeReplica employeeReplica = new EmployeeReplica();
+        employeeReplica.replaceAll(Rosters.generate(rosterSize));
+        // the replica is fresh, so the RestTemplate is never called
+        employeeService = new EmployeeService(new RestTemplate(), employeeReplica, new NoOpCacheManager(), new EmployeeReplicaProperties());
+    }
+
+    @Benchmark
+    public List<Employee> getEmployeesByNameSearch() {
+        return employeeService.getEmployeesByNameSearch("rtin");
+    }
+
+    /*
+     * Queries shorter than a trigram take the scan path of the name index.
+     */
+    @Benchmark
+    public List<Employee> getEmployeesByNameSearchShortQuery() {
+        return employeeService.getEmployeesByNameSearch("oz");
+    }
+
+    @Benchmark
+    public List<String> getTopTenHighestEarningEmployeeNames() {
+        return employeeService.getTopTenHighestEarningEmployeeNames();
+    }
+
+    @Benchmark
+    public Integer getHighestSalaryOfEmployees() {
+        return employeeService.getHighestSalaryOfEmployees();
+    }
+}
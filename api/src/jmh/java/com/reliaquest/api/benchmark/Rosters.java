@@ -0,0 +1,51 @@
+package com.reliaquest.api.benchmark;
+
+import com.reliaquest.api.models.Employee;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Deterministic synthetic rosters, so every run and every release benchmarks the same data.
+ */
+final class Rosters {
+
+    private static final String[] FIRST_NAMES = {
+            "James", "Mary", "Robert", "Patricia", "John", "Jennifer", "Michael", "Linda", "David", "Elizabeth",
+            "William", "Barbara", "Richard", "Susan", "Joseph", "Jessica", "Thomas", "Sarah", "Charles", "Karen",
+            "Daniel", "Nancy", "Matthew", "Lisa", "Anthony", "Betty", "Mark", "Sandra", "Steven", "Ashley"};
+
+    private static final String[] LAST_NAMES = {
+            "Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia", "Miller", "Davis", "Rodriguez", "Martinez",
+            "Hernandez", "Lopez", "Gonzalez", "Wilson", "Anderson", "Thomas", "Taylor", "Moore", "Jackson", "Martin",
+            "Lee", "Perez", "Thompson", "White", "Harris", "Sanchez", "Clark", "Ramirez", "Lewis", "Robinson"};
+
+    private static final String[] TITLES = {
+            "Engineer", "Senior Engineer", "Staff Engineer", "Product Manager", "Designer", "Data Analyst",
+            "Sales Associate", "Account Executive", "Support Specialist", "Recruiter", "Accountant", "Director"};
+
+    static final long SEED = 42;
+
+    private Rosters() {
+    }
+
+    static List<Employee> generate(int size) {
+        Random random = new Random(SEED);
+        List<Employee> roster = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String firstName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+            String lastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            roster.add(Employee.builder()
+                    .id(new UUID(random.nextLong(), random.nextLong()))
+                    .name(firstName + " " + lastName)
+                    .salary(30_000 + random.nextInt(470_000))
+                    .age(18 + random.nextInt(52))
+                    .title(TITLES[random.nextInt(TITLES.length)])
+                    .email(firstName.toLowerCase() + "." + lastName.toLowerCase() + i + "@company.com")
+                    .build());
+        }
+        return roster;
+    }
+}
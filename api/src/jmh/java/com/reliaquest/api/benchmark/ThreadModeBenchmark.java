@@ -0,0 +1,93 @@
+package com.reliaquest.api.benchmark;
+
+import com.reliaquest.api.configuration.EmployeeReplicaProperties;
+import com.reliaquest.api.replica.EmployeeReplica;
+import com.reliaquest.api.service.impl.EmployeeService;
+import com.reliaquest.api.utils.SlowRestTemplate;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Compares request throughput and latency of a fixed platform thread pool (Tomcat's default of 200
+ * workers) against one virtual thread per request, on the by-id replica-miss path where every call
+ * blocks on the upstream.
+ * <p>
+ * Run with {@code ./gradlew api:threadModeBenchmark -PjavaVersion=21}; on older runtimes only the
+ * platform pool is measured. Optional arguments: request count, concurrent clients, upstream latency in ms.
+ */
+public class ThreadModeBenchmark {
+
+    private static final int PLATFORM_POOL_SIZE = 200;
+
+    public static void main(String[] args) throws Exception {
+        int requests = args.length > 0 ? Integer.parseInt(args[0]) : 20_000;
+        int clients = args.length > 1 ? Integer.parseInt(args[1]) : 2_000;
+        long latencyMs = args.length > 2 ? Long.parseLong(args[2]) : 50;
+
+        System.out.printf(Locale.ROOT, "%d requests, %d concurrent clients, %d ms upstream latency%n",
+                requests, clients, latencyMs);
+        run("platform(" + PLATFORM_POOL_SIZE + ")", Executors.newFixedThreadPool(PLATFORM_POOL_SIZE),
+                requests, clients, latencyMs);
+        ExecutorService virtual = newVirtualThreadPerTaskExecutor();
+        if (virtual == null) {
+            System.out.println("virtual: skipped, needs Java 21+ (-PjavaVersion=21)");
+        } else {
+            run("virtual", virtual, requests, clients, latencyMs);
+        }
+    }
+
+    private static void run(String mode, ExecutorService executor, int requests, int clients, long latencyMs)
+            throws Exception {
+        EmployeeService employeeService = new EmployeeService(new SlowRestTemplate(latencyMs), new EmployeeReplica(),
+                new ConcurrentMapCacheManager(), new EmployeeReplicaProperties());
+        // warm the replica so every by-id lookup below is a miss that goes upstream
+        employeeService.refreshReplica();
+
+        long[] latencies = new long[requests];
+        long started = System.nanoTime();
+        try {
+            for (int offset = 0; offset < requests; offset += clients) {
+                List<Future<?>> wave = new ArrayList<>(clients);
+                for (int i = offset; i < Math.min(requests, offset + clients); i++) {
+                    int slot = i;
+                    long submitted = System.nanoTime();
+                    wave.add(executor.submit(() -> {
+                        employeeService.getEmployeeById(UUID.randomUUID().toString());
+                        latencies[slot] = System.nanoTime() - submitted;
+                    }));
+                }
+                for (Future<?> call : wave) {
+                    call.get();
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+        double elapsedSeconds = (System.nanoTime() - started) / 1e9;
+
+        Arrays.sort(latencies);
+        System.out.printf(Locale.ROOT, "%-14s %8.0f req/s   p50 %6.1f ms   p99 %6.1f ms   max %6.1f ms%n",
+                mode, requests / elapsedSeconds,
+                percentile(latencies, 0.50), percentile(latencies, 0.99), latencies[requests - 1] / 1e6);
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(quantile * sorted.length) - 1)] / 1e6;
+    }
+
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+}
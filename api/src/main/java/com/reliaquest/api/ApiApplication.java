@@ -1,11 +1,17 @@
 package com.reliaquest.api;
 
+import com.reliaquest.api.configuration.EmployeeBatchProperties;
+import com.reliaquest.api.configuration.EmployeeReplicaProperties;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableCaching
+@EnableScheduling
+@EnableConfigurationProperties({EmployeeReplicaProperties.class, EmployeeBatchProperties.class})
 public class ApiApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,113 @@
+package com.reliaquest.api.client;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.models.Employee;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.web.client.ResponseExtractor;
+
+import java.io.IOException;
+import java.util.function.Consumer;
+
+/**
+ * Reads the upstream roster response ({@code {"data": [...], "status": "..."}}) token by token and
+ * hands each employee to a consumer as soon as it has been parsed. Only one employee is held at a
+ * time, instead of the whole response being bound into an {@code APIResponse<List<Employee>>} first.
+ * For a page of the roster, the cursor of the following page is kept and available from {@link #getNext()}.
+ * The response's ETag is kept too; a 304 to a conditional request streams nothing and yields zero.
+ */
+public class EmployeeRosterExtractor implements ResponseExtractor<Integer> {
+
+    private static final String DATA_FIELD = "data";
+
+    private static final String NEXT_FIELD = "next";
+
+    private final ObjectMapper objectMapper;
+    private final Consumer<Employee> consumer;
+
+    private String next;
+
+    private String eTag;
+
+    private boolean notModified;
+
+    public EmployeeRosterExtractor(ObjectMapper objectMapper, Consumer<Employee> consumer) {
+        this.objectMapper = objectMapper;
+        this.consumer = consumer;
+    }
+
+    /**
+     * Method to stream the employees of the response into the consumer.
+     *
+     * @return the number of employees streamed, or null if the response carried no data.
+     * Zero if the response was 304 Not Modified.
+     */
+    @Override
+    public Integer extractData(ClientHttpResponse response) throws IOException {
+        eTag = response.getHeaders().getETag();
+        if (response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+            notModified = true;
+            return 0;
+        }
+        try (JsonParser parser = objectMapper.getFactory().createParser(response.getBody())) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            Integer streamed = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (DATA_FIELD.equals(field) && value == JsonToken.START_ARRAY) {
+                    streamed = streamEmployees(parser);
+                } else if (NEXT_FIELD.equals(field) && value == JsonToken.VALUE_STRING) {
+                    next = parser.getText();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            return streamed;
+        }
+    }
+
+    /**
+     * Method to retrieve the cursor of the page following the extracted one.
+     *
+     * @return the value to request the next page after, or null if the response was the last or only page.
+     */
+    public String getNext() {
+        return next;
+    }
+
+    /**
+     * Method to retrieve the ETag of the extracted response.
+     *
+     * @return the ETag, or null if the response had none.
+     */
+    public String getETag() {
+        return eTag;
+    }
+
+    /**
+     * Method to check whether the upstream answered a conditional request with 304 Not Modified.
+     *
+     * @return true if the roster is unchanged since the ETag the request was sent with.
+     */
+    public boolean isNotModified() {
+        return notModified;
+    }
+
+    private int streamEmployees(JsonParser parser) throws IOException {
+        int streamed = 0;
+        for (JsonToken token = parser.nextToken(); token != null && token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+            if (token == JsonToken.START_OBJECT) {
+                consumer.accept(objectMapper.readValue(parser, Employee.class));
+                streamed++;
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return streamed;
+    }
+}
@@ -0,0 +1,53 @@
+package com.reliaquest.api.client;
+
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Reactive counterpart of {@link RateLimitingInterceptor}: admits each WebClient exchange through the
+ * shared {@link UpstreamRateLimiter}. Waiting for a slot happens on the bounded elastic scheduler so
+ * event loop threads are never parked; in the common case a slot is free and no wait happens at all.
+ */
+public class RateLimitingExchangeFilter implements ExchangeFilterFunction {
+
+    private final UpstreamRateLimiter rateLimiter;
+
+    public RateLimitingExchangeFilter(UpstreamRateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+    }
+
+    /*
+     * The exchange is only built once a slot is held, and the slot is only released by an exchange that
+     * was admitted: a rejected acquire never took one.
+     */
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        return Mono.fromRunnable(rateLimiter::acquire)
+                .subscribeOn(Schedulers.boundedElastic())
+                .then(Mono.defer(() -> {
+                    AtomicBoolean released = new AtomicBoolean();
+                    return next.exchange(request)
+                            .doOnNext(response -> {
+                                if (released.compareAndSet(false, true)) {
+                                    rateLimiter.onResponse(response.statusCode());
+                                }
+                            })
+                            .doOnError(e -> {
+                                if (released.compareAndSet(false, true)) {
+                                    rateLimiter.onFailure();
+                                }
+                            })
+                            .doOnCancel(() -> {
+                                if (released.compareAndSet(false, true)) {
+                                    rateLimiter.onFailure();
+                                }
+                            });
+                }));
+    }
+}
@@ -0,0 +1,63 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.configuration.UpstreamRateLimitProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Routes every upstream call through the {@link UpstreamRateLimiter} and retries calls rejected
+ * with 429 after a jittered delay, as long as the limiter expects the window to reopen within the
+ * caller's maximum wait. The last 429 is returned as is when attempts run out.
+ */
+@Slf4j
+public class RateLimitingInterceptor implements ClientHttpRequestInterceptor {
+
+    private final UpstreamRateLimiter rateLimiter;
+    private final UpstreamRateLimitProperties properties;
+
+    public RateLimitingInterceptor(UpstreamRateLimiter rateLimiter, UpstreamRateLimitProperties properties) {
+        this.rateLimiter = rateLimiter;
+        this.properties = properties;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        for (int attempt = 1; ; attempt++) {
+            rateLimiter.acquire();
+            ClientHttpResponse response;
+            try {
+                response = execution.execute(request, body);
+            } catch (IOException | RuntimeException e) {
+                rateLimiter.onFailure();
+                throw e;
+            }
+            rateLimiter.onResponse(response.getStatusCode());
+
+            if (response.getStatusCode().value() != HttpStatus.TOO_MANY_REQUESTS.value() || attempt >= properties.getMaxAttempts()) {
+                return response;
+            }
+            response.close();
+            log.debug("[RateLimitingInterceptor] :: {} {} throttled, retrying (attempt {})", request.getMethod(), request.getURI(), attempt);
+            jitter();
+        }
+    }
+
+    private void jitter() {
+        long bound = properties.getRetryJitter().toMillis();
+        if (bound <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(bound + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
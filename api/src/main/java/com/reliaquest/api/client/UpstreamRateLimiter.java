@@ -0,0 +1,309 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.configuration.UpstreamRateLimitProperties;
+import com.reliaquest.api.exception.UpstreamThrottledException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Admission control for calls to the rate limited mock employee server.
+ * <p>
+ * The server accepts a fixed number of requests and then rejects everything with 429 until a
+ * fixed window has passed since the last accepted request; rejected requests do not extend the
+ * window. This limiter models exactly that: it counts accepted requests per cycle, learns the
+ * limit from the count at which the first 429 arrives, and learns the window by bisecting between
+ * the longest wait that was still throttled and the shortest wait that was accepted.
+ * <p>
+ * Callers queue fairly. Once the learned budget is spent, or while a backoff window is known to be
+ * open, they wait for the predicted reopening; when the window reopens a single probe goes out
+ * before the rest are released. Callers that would have to wait longer than the configured
+ * maximum fail fast with {@link UpstreamThrottledException}.
+ * <p>
+ * Publishes the number of 429s received, the calls it turned away, and its current estimates as metrics.
+ */
+@Slf4j
+public class UpstreamRateLimiter implements MeterBinder {
+
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(50);
+
+    private final UpstreamRateLimitProperties properties;
+    private final Clock clock;
+
+    private final LongAdder throttledResponses = new LongAdder();
+    private final LongAdder rejectedCalls = new LongAdder();
+
+    private final ReentrantLock lock = new ReentrantLock(true);
+    private final Condition stateChanged = lock.newCondition();
+
+    private int estimatedLimit;
+    private boolean limitConfirmed;
+    private int acceptedInCycle;
+    private int inFlight;
+    private Instant lastAcceptedAt;
+
+    private Duration estimatedBackoff;
+    private Duration backoffLowerBound = Duration.ZERO;
+    private Duration backoffUpperBound;
+
+    private boolean throttled;
+    private boolean probing;
+    private Instant blockedUntil = Instant.MIN;
+
+    public UpstreamRateLimiter(UpstreamRateLimitProperties properties) {
+        this(properties, Clock.systemUTC());
+    }
+
+    UpstreamRateLimiter(UpstreamRateLimitProperties properties, Clock clock) {
+        this.properties = properties;
+        this.clock = clock;
+        this.estimatedLimit = properties.getInitialLimit();
+        this.estimatedBackoff = properties.getInitialBackoff();
+    }
+
+    /**
+     * Method to wait for an admission slot. Every successful call must be followed by exactly one of
+     * {@link #onResponse(HttpStatusCode)} or {@link #onFailure()}.
+     *
+     * @throws UpstreamThrottledException if no slot opens within the configured maximum wait.
+     */
+    public void acquire() {
+        long deadline = System.nanoTime() + properties.getMaxWait().toNanos();
+        lock.lock();
+        try {
+            while (true) {
+                Instant now = clock.instant();
+                Instant opensAt = nextOpening(now);
+                if (opensAt == null) {
+                    probing = throttled;
+                    inFlight++;
+                    return;
+                }
+                long remaining = deadline - System.nanoTime();
+                Duration wait = Duration.between(now, opensAt);
+                if (remaining <= 0 || wait.toNanos() > remaining) {
+                    rejectedCalls.increment();
+                    throw new UpstreamThrottledException(wait.isNegative() ? Duration.ZERO : wait);
+                }
+                stateChanged.awaitNanos(Math.max(1, Math.min(wait.toNanos(), remaining)));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UpstreamThrottledException(Duration.ZERO);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Method to record the outcome of an admitted call that produced a response.
+     *
+     * @param status the status returned by the upstream.
+     */
+    public void onResponse(HttpStatusCode status) {
+        lock.lock();
+        try {
+            inFlight--;
+            Instant now = clock.instant();
+            if (status.value() == HttpStatus.TOO_MANY_REQUESTS.value()) {
+                throttledResponses.increment();
+                onThrottled(now);
+            } else {
+                onAccepted(now);
+            }
+            stateChanged.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Method to release an admitted call that failed without a response, e.g. on a connect timeout.
+     */
+    public void onFailure() {
+        lock.lock();
+        try {
+            inFlight--;
+            probing = false;
+            stateChanged.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Method to retrieve how long a call issued now would have to wait for admission.
+     *
+     * @return zero if a slot is free, otherwise the predicted wait.
+     */
+    public Duration currentDelay() {
+        lock.lock();
+        try {
+            Instant now = clock.instant();
+            Instant opensAt = nextOpening(now);
+            return opensAt == null ? Duration.ZERO : Duration.between(now, opensAt);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getEstimatedLimit() {
+        lock.lock();
+        try {
+            return estimatedLimit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Duration getEstimatedBackoff() {
+        lock.lock();
+        try {
+            return estimatedBackoff;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int getInFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("employee.upstream.throttled", throttledResponses, LongAdder::sum)
+                .description("Upstream responses rejected with 429")
+                .register(registry);
+        FunctionCounter.builder("employee.upstream.rejected", rejectedCalls, LongAdder::sum)
+                .description("Calls turned away locally because the upstream rate limit was predicted exhausted")
+                .register(registry);
+        Gauge.builder("employee.upstream.limit.estimate", this, UpstreamRateLimiter::getEstimatedLimit)
+                .description("Learned number of requests the upstream accepts per window")
+                .register(registry);
+        TimeGauge.builder("employee.upstream.backoff.estimate", this, TimeUnit.MILLISECONDS,
+                        limiter -> limiter.getEstimatedBackoff().toMillis())
+                .description("Learned length of the upstream throttle window")
+                .register(registry);
+        TimeGauge.builder("employee.upstream.admission.delay", this, TimeUnit.MILLISECONDS,
+                        limiter -> limiter.currentDelay().toMillis())
+                .description("How long a call issued now would wait for admission")
+                .register(registry);
+    }
+
+    /*
+     * Returns null when a call may go out now, otherwise the instant at which to re-check.
+     */
+    private Instant nextOpening(Instant now) {
+        if (throttled) {
+            if (now.isBefore(blockedUntil)) {
+                return blockedUntil;
+            }
+            // window predicted to be over: let exactly one probe through until it has an answer
+            return inFlight == 0 ? null : now.plus(POLL_INTERVAL);
+        }
+        if (acceptedInCycle + inFlight < estimatedLimit) {
+            return null;
+        }
+        if (!limitConfirmed) {
+            // the limit has not been observed yet: probe past the estimate one call at a time
+            return inFlight == 0 ? null : now.plus(POLL_INTERVAL);
+        }
+        if (inFlight > 0) {
+            return now.plus(POLL_INTERVAL);
+        }
+        // the learned budget is spent, so the next call would be rejected until the window has passed
+        throttled = true;
+        blockedUntil = lastAcceptedAt == null ? now : lastAcceptedAt.plus(estimatedBackoff);
+        return now.isBefore(blockedUntil) ? blockedUntil : null;
+    }
+
+    private void onAccepted(Instant now) {
+        if (throttled && probing) {
+            if (lastAcceptedAt != null) {
+                Duration waited = Duration.between(lastAcceptedAt, now);
+                if (backoffUpperBound == null || waited.compareTo(backoffUpperBound) < 0) {
+                    backoffUpperBound = waited;
+                }
+                refineBackoff();
+            }
+            // the upstream resets its counter on the first request after the window without counting it
+            throttled = false;
+            probing = false;
+            acceptedInCycle = 0;
+        } else {
+            acceptedInCycle++;
+            if (acceptedInCycle > estimatedLimit) {
+                estimatedLimit = acceptedInCycle;
+            }
+            if (throttled) {
+                // admitted before the throttle was seen; the window runs from this acceptance instead
+                blockedUntil = now.plus(estimatedBackoff);
+            }
+        }
+        lastAcceptedAt = now;
+    }
+
+    private void onThrottled(Instant now) {
+        if (throttled && !probing) {
+            // another call admitted before the first 429 came back; nothing new to learn
+            return;
+        }
+        if (probing) {
+            // a probe after the predicted window was still rejected, so the window is longer than that
+            Duration waited = lastAcceptedAt == null ? Duration.ZERO : Duration.between(lastAcceptedAt, now);
+            if (waited.compareTo(backoffLowerBound) > 0) {
+                backoffLowerBound = waited;
+            }
+            if (backoffUpperBound != null && backoffUpperBound.compareTo(backoffLowerBound) <= 0) {
+                // the upstream changed its window (e.g. restarted); forget what was learned
+                backoffUpperBound = null;
+            }
+            refineBackoff();
+            probing = false;
+        } else if (acceptedInCycle > 0) {
+            estimatedLimit = acceptedInCycle;
+            limitConfirmed = true;
+        }
+        throttled = true;
+        Instant anchor = lastAcceptedAt == null ? now : lastAcceptedAt;
+        blockedUntil = anchor.plus(estimatedBackoff);
+        if (!blockedUntil.isAfter(now)) {
+            blockedUntil = now.plus(properties.getBackoffResolution());
+        }
+        log.warn("[UpstreamRateLimiter] :: Upstream throttled after {} requests, backing off until {} (limit ~{}, window ~{})",
+                acceptedInCycle, blockedUntil, estimatedLimit, estimatedBackoff);
+    }
+
+    private void refineBackoff() {
+        Duration max = properties.getMaxBackoff();
+        if (backoffUpperBound == null) {
+            Duration grown = Duration.ofMillis(Math.max(estimatedBackoff.toMillis(), backoffLowerBound.toMillis()) * 5 / 4);
+            estimatedBackoff = grown.compareTo(max) > 0 ? max : grown;
+            return;
+        }
+        Duration gap = backoffUpperBound.minus(backoffLowerBound);
+        if (gap.compareTo(properties.getBackoffResolution()) <= 0) {
+            estimatedBackoff = backoffUpperBound;
+        } else {
+            estimatedBackoff = backoffLowerBound.plus(gap.dividedBy(2));
+        }
+    }
+}
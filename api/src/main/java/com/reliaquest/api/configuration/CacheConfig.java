@@ -0,0 +1,64 @@
+package com.reliaquest.api.configuration;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.CaffeineSpec;
+import com.reliaquest.api.constants.APIConstants;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Arrays;
+import java.util.List;
+
+@Configuration
+@EnableConfigurationProperties(EmployeeCacheProperties.class)
+@Slf4j
+public class CacheConfig {
+
+    static final List<String> CACHE_NAMES = List.of(
+            APIConstants.GET_ALL_EMPLOYEES_CACHE_KEY,
+            APIConstants.GET_ALL_EMPLOYEES_BY_NAME_CACHE_KEY,
+            APIConstants.GET_EMPLOYEE_BY_ID_CACHE_KEY,
+            APIConstants.GET_HIGHEST_SALARY_CACHE_KEY,
+            APIConstants.GET_TOP_TEN_HIGHEST_SALARY_NAME_KEY);
+
+    private static final String REFRESH_AFTER_WRITE = "refreshAfterWrite";
+
+    /**
+     * Caffeine backed cache manager. Each cache is size bounded (W-TinyLFU eviction), expires
+     * after write and records hit/miss/eviction statistics. Unknown cache names are rejected
+     * rather than silently created unbounded. Only size, expiry and reference strength keys are
+     * supported: the caches have no loader, so {@code refreshAfterWrite} is rejected at startup.
+     */
+    @Bean
+    public CacheManager cacheManager(EmployeeCacheProperties cacheProperties) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCacheNames(List.of());
+        CACHE_NAMES.forEach(cacheName -> {
+            String spec = cacheProperties.specFor(cacheName);
+            log.info("[CacheConfig] :: Configuring cache {} with spec '{}'", cacheName, spec);
+            cacheManager.registerCustomCache(cacheName, Caffeine.from(parseSpec(cacheName, spec)).recordStats().build());
+        });
+        return cacheManager;
+    }
+
+    static CaffeineSpec parseSpec(String cacheName, String spec) {
+        boolean refreshes = Arrays.stream(spec.split(","))
+                .map(option -> option.split("=", 2)[0].trim())
+                .anyMatch(REFRESH_AFTER_WRITE::equals);
+        if (refreshes) {
+            throw new IllegalArgumentException(String.format(
+                    "Cache %s spec '%s' sets %s, which needs a cache loader; use expireAfterWrite instead",
+                    cacheName, spec, REFRESH_AFTER_WRITE));
+        }
+        try {
+            return CaffeineSpec.parse(spec);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(
+                    String.format("Cache %s has an invalid spec '%s': %s", cacheName, spec, e.getMessage()), e);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.reliaquest.api.configuration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for the batch create and delete endpoints.
+ */
+@Data
+@ConfigurationProperties(prefix = "employee.batch")
+public class EmployeeBatchProperties {
+
+    /**
+     * Largest number of items accepted in one batch. Against the mock server's default rate limit
+     * (5-9 requests, then a 30-90s backoff) only a handful of items fit in {@code maxDuration}; the
+     * rest come back throttled, so larger batches only pay off with a more generous upstream limit.
+     */
+    private int maxSize = 100;
+
+    /**
+     * Number of upstream calls a batch (all batches together) may have in flight at once. Admission
+     * is still decided by the upstream rate limiter; this only bounds the threads waiting on it.
+     */
+    private int parallelism = 4;
+
+    /**
+     * How long a batch may keep waiting for the upstream rate limit to reopen. Items not started
+     * by then are reported as throttled instead of being sent. The caller waits for the whole
+     * batch, so this may be at most one minute.
+     */
+    private Duration maxDuration = Duration.ofSeconds(20);
+
+    /**
+     * Pause before retrying an item the upstream throttled without saying when to come back.
+     */
+    private Duration throttleBackoff = Duration.ofSeconds(5);
+}
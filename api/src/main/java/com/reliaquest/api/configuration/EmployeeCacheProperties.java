@@ -0,0 +1,24 @@
+package com.reliaquest.api.configuration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Caffeine specifications for the employee caches, see {@link com.github.benmanes.caffeine.cache.CaffeineSpec}.
+ * Every cache listed in {@code APIConstants} is bounded; caches without their own spec use {@code defaultSpec}.
+ */
+@Data
+@ConfigurationProperties(prefix = "employee.cache")
+public class EmployeeCacheProperties {
+
+    private String defaultSpec = "maximumSize=1000,expireAfterWrite=5m";
+
+    private Map<String, String> specs = new LinkedHashMap<>();
+
+    public String specFor(String cacheName) {
+        return specs.getOrDefault(cacheName, defaultSpec);
+    }
+}
@@ -0,0 +1,34 @@
+package com.reliaquest.api.configuration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for the local employee replica. The refresh schedule itself is read by
+ * {@code @Scheduled} from {@code employee.replica.initial-delay-ms} and {@code employee.replica.refresh-interval-ms}.
+ */
+@Data
+@ConfigurationProperties(prefix = "employee.replica")
+public class EmployeeReplicaProperties {
+
+    /**
+     * How old the replica may get while background refreshes keep failing (e.g. while the upstream
+     * is throttling) before reads stop serving it and require a successful refresh.
+     */
+    private Duration maxStaleness = Duration.ofMinutes(10);
+
+    /**
+     * How long reads past {@code maxStaleness} fail fast with the error of a failed reload instead of
+     * retrying it. A longer retry-after announced by the upstream's rate limit takes precedence.
+     */
+    private Duration reloadBackoff = Duration.ofSeconds(30);
+
+    /**
+     * How many employees to request per upstream roster page. The upstream caps it at its own maximum.
+     * Every page is one request against the upstream's rate limit, so pages are kept large; a load
+     * throttled part-way resumes from its last page.
+     */
+    private int pageSize = 10_000;
+}
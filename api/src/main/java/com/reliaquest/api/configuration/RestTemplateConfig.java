@@ -1,14 +1,93 @@
 package com.reliaquest.api.configuration;
 
+import com.reliaquest.api.client.RateLimitingInterceptor;
+import com.reliaquest.api.client.UpstreamRateLimiter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.http.HttpClient;
+
 @Configuration
+@EnableConfigurationProperties({UpstreamHttpClientProperties.class, UpstreamRateLimitProperties.class})
+@Slf4j
 public class RestTemplateConfig {
 
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(RestTemplateBuilder restTemplateBuilder,
+                                     ClientHttpRequestFactory upstreamRequestFactory,
+                                     UpstreamHttpClientProperties properties,
+                                     UpstreamRateLimiter upstreamRateLimiter,
+                                     UpstreamRateLimitProperties rateLimitProperties) {
+        RestTemplateBuilder builder = restTemplateBuilder
+                .rootUri(properties.getBaseUrl())
+                .requestFactory(() -> upstreamRequestFactory);
+        if (rateLimitProperties.isEnabled()) {
+            builder = builder.additionalInterceptors(new RateLimitingInterceptor(upstreamRateLimiter, rateLimitProperties));
+        }
+        return builder.build();
+    }
+
+    @Bean
+    public UpstreamRateLimiter upstreamRateLimiter(UpstreamRateLimitProperties rateLimitProperties) {
+        return new UpstreamRateLimiter(rateLimitProperties);
+    }
+
+    /**
+     * Request factory for calls to the mock employee server. By default a pooled, keep-alive
+     * Apache HttpClient bounded per route, with connect/read/response timeouts so a hung upstream
+     * cannot pin request threads indefinitely.
+     */
+    @Bean
+    public ClientHttpRequestFactory upstreamRequestFactory(UpstreamHttpClientProperties properties) {
+        if (properties.isHttp2Enabled()) {
+            log.info("[RestTemplateConfig] :: Using JDK HTTP/2 client for upstream calls");
+            HttpClient httpClient = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_2)
+                    .connectTimeout(properties.getConnectTimeout())
+                    .build();
+            JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+            requestFactory.setReadTimeout(properties.getReadTimeout());
+            return requestFactory;
+        }
+
+        log.info("[RestTemplateConfig] :: Using pooled HTTP client for upstream calls ({} per route, {} total)",
+                properties.getMaxConnectionsPerRoute(), properties.getMaxConnectionsTotal());
+        return new HttpComponentsClientHttpRequestFactory(pooledHttpClient(properties));
+    }
+
+    private CloseableHttpClient pooledHttpClient(UpstreamHttpClientProperties properties) {
+        ConnectionConfig connectionConfig = ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.of(properties.getConnectTimeout()))
+                .setSocketTimeout(Timeout.of(properties.getReadTimeout()))
+                .build();
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.of(properties.getConnectionRequestTimeout()))
+                .setResponseTimeout(Timeout.of(properties.getResponseTimeout()))
+                .build();
+
+        return HttpClients.custom()
+                .setConnectionManager(PoolingHttpClientConnectionManagerBuilder.create()
+                        .setMaxConnTotal(properties.getMaxConnectionsTotal())
+                        .setMaxConnPerRoute(properties.getMaxConnectionsPerRoute())
+                        .setDefaultConnectionConfig(connectionConfig)
+                        .build())
+                .setDefaultRequestConfig(requestConfig)
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(properties.getIdleEvictionTimeout()))
+                .build();
     }
 }
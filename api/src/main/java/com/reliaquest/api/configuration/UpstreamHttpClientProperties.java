@@ -0,0 +1,57 @@
+package com.reliaquest.api.configuration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Connection pool and timeout settings for the HTTP client used to call the mock employee server.
+ */
+@Data
+@ConfigurationProperties(prefix = "employee.upstream.http")
+public class UpstreamHttpClientProperties {
+
+    /**
+     * Scheme, host and port of the mock employee server.
+     */
+    private String baseUrl = "http://localhost:8112";
+
+    /**
+     * Upper bound on open connections across all routes.
+     */
+    private int maxConnectionsTotal = 50;
+
+    /**
+     * Upper bound on open connections to a single host, i.e. on concurrency towards the mock server.
+     */
+    private int maxConnectionsPerRoute = 20;
+
+    private Duration connectTimeout = Duration.ofSeconds(2);
+
+    /**
+     * Maximum time to wait for data on an open connection.
+     */
+    private Duration readTimeout = Duration.ofSeconds(5);
+
+    /**
+     * Maximum time to wait for the complete response head once the request is sent.
+     */
+    private Duration responseTimeout = Duration.ofSeconds(5);
+
+    /**
+     * Maximum time to wait for a pooled connection before failing the call.
+     */
+    private Duration connectionRequestTimeout = Duration.ofSeconds(2);
+
+    /**
+     * Pooled connections idle for longer than this are closed in the background.
+     */
+    private Duration idleEvictionTimeout = Duration.ofSeconds(30);
+
+    /**
+     * Use the JDK HTTP client negotiating HTTP/2 instead of the pooled HTTP/1.1 client.
+     * The JDK client manages its own connections, so the pool sizes above do not apply.
+     */
+    private boolean http2Enabled = false;
+}
@@ -0,0 +1,50 @@
+package com.reliaquest.api.configuration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for the client-side admission control in front of the rate limited mock employee server.
+ * The limiter starts from these estimates and refines the request budget and backoff window
+ * from the 429 responses it observes.
+ */
+@Data
+@ConfigurationProperties(prefix = "employee.upstream.rate-limit")
+public class UpstreamRateLimitProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Requests assumed to be accepted per cycle before the first 429 has been observed.
+     */
+    private int initialLimit = 5;
+
+    /**
+     * Assumed backoff window, measured from the last accepted request, before it has been learned.
+     */
+    private Duration initialBackoff = Duration.ofSeconds(30);
+
+    private Duration maxBackoff = Duration.ofSeconds(120);
+
+    /**
+     * Resolution at which the learned backoff window stops being refined.
+     */
+    private Duration backoffResolution = Duration.ofSeconds(1);
+
+    /**
+     * Longest a caller waits for an admission slot before failing with 429.
+     */
+    private Duration maxWait = Duration.ofSeconds(2);
+
+    /**
+     * Attempts per call, including the first, when the upstream answers 429.
+     */
+    private int maxAttempts = 3;
+
+    /**
+     * Upper bound of the random delay added before a retry, so released callers do not retry in lockstep.
+     */
+    private Duration retryJitter = Duration.ofMillis(250);
+}
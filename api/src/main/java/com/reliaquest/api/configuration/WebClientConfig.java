@@ -0,0 +1,56 @@
+package com.reliaquest.api.configuration;
+
+import com.reliaquest.api.client.RateLimitingExchangeFilter;
+import com.reliaquest.api.client.UpstreamRateLimiter;
+import com.reliaquest.api.constants.APIConstants;
+import io.netty.channel.ChannelOption;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Non-blocking HTTP client for the reactive service mode ({@code employee.service.mode=reactive}).
+ * Pool size and timeouts come from the same {@code employee.upstream.http} settings as the blocking client.
+ */
+@Configuration
+@ConditionalOnProperty(name = "employee.service.mode", havingValue = "reactive")
+public class WebClientConfig {
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider employeeConnectionProvider(UpstreamHttpClientProperties properties) {
+        return ConnectionProvider.builder("employee-upstream")
+                .maxConnections(properties.getMaxConnectionsPerRoute())
+                .pendingAcquireTimeout(properties.getConnectionRequestTimeout())
+                .maxIdleTime(properties.getIdleEvictionTimeout())
+                .evictInBackground(properties.getIdleEvictionTimeout())
+                .build();
+    }
+
+    @Bean
+    public WebClient employeeWebClient(WebClient.Builder webClientBuilder,
+                                       ConnectionProvider employeeConnectionProvider,
+                                       UpstreamHttpClientProperties properties,
+                                       UpstreamRateLimiter upstreamRateLimiter,
+                                       UpstreamRateLimitProperties rateLimitProperties) {
+        HttpClient httpClient = HttpClient.create(employeeConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) properties.getConnectTimeout().toMillis())
+                .responseTimeout(properties.getResponseTimeout())
+                .doOnConnected(connection -> connection.addHandlerLast(
+                        new ReadTimeoutHandler(properties.getReadTimeout().toMillis(), TimeUnit.MILLISECONDS)));
+
+        WebClient.Builder builder = webClientBuilder
+                .baseUrl(properties.getBaseUrl() + APIConstants.EMPLOYEE_BASE_URL)
+                .clientConnector(new ReactorClientHttpConnector(httpClient));
+        if (rateLimitProperties.isEnabled()) {
+            builder = builder.filter(new RateLimitingExchangeFilter(upstreamRateLimiter));
+        }
+        return builder.build();
+    }
+}
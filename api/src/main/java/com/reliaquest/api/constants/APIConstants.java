@@ -1,7 +1,19 @@
 package com.reliaquest.api.constants;
 
 public class APIConstants {
-    public static final String EMPLOYEE_BASE_URL = "http://localhost:8112/api/v1/employee";
+    /**
+     * Relative to {@code employee.upstream.http.base-url}, which the upstream clients are rooted at.
+     */
+    public static final String EMPLOYEE_BASE_URL = "/api/v1/employee";
+
+    /*
+     * Roster pages; the cursor stays a uri variable so client metrics are tagged per endpoint, not per page.
+     */
+    public static final String EMPLOYEE_FIRST_PAGE_URL = EMPLOYEE_BASE_URL + "?limit={limit}";
+
+    public static final String EMPLOYEE_NEXT_PAGE_URL = EMPLOYEE_BASE_URL + "?limit={limit}&after={after}";
+
+    public static final String EMPLOYEE_BY_ID_URL = EMPLOYEE_BASE_URL + "/{id}";
 
     public static final String GET_ALL_EMPLOYEES_CACHE_KEY = "GetAllEmployees";
 
@@ -12,4 +24,6 @@ public class APIConstants {
     public static final String GET_HIGHEST_SALARY_CACHE_KEY = "GetHighestSalary";
 
     public static final String GET_TOP_TEN_HIGHEST_SALARY_NAME_KEY = "GetTopTenSalaryName";
+
+    public static final int TOP_EARNING_EMPLOYEES_LIMIT = 10;
 }
@@ -18,5 +18,33 @@ public class ErrorConstants {
 
     public static final String NO_EMPLOYEE_FOR_CALCULATION = "No employees found to calculate highest salary";
 
+    public static final String NO_EMPLOYEE_FOR_SALARY_ANALYTICS = "No employees found to calculate salary statistics";
+
+    public static final String INVALID_PERCENTILE = "Percentiles should be between 0 and 100";
+
+    public static final String INVALID_HISTOGRAM_BUCKETS = "Histogram needs between 1 and %d buckets";
+
+    public static final String INVALID_HISTOGRAM_BOUNDS = "Histogram bounds should be strictly ascending";
+
+    public static final String INVALID_AGE_BAND_WIDTH = "Age band width should be between 1 and %d";
+
+    public static final String INVALID_PAGE_SIZE = "Page size should be between 1 and %d";
+
+    public static final String INVALID_PAGE_CURSOR = "Page cursor should be the 'next' value of the previous page";
+
     public static final String FAILED_TO_CREATE_EMPLOYEE = "Failed to create employee";
+
+    public static final String UPSTREAM_UNAVAILABLE = "Employee data is temporarily unavailable. Please try again later";
+
+    public static final String INVALID_BATCH_SIZE = "Batch must contain between 1 and %d items";
+
+    public static final String BATCH_ITEM_ERROR = "Item %d: %s";
+
+    public static final String NULL_BATCH_ITEM = "Item %d: Should not be null";
+
+    public static final String BLANK_BATCH_ID = "Item %d: Id Should not be blank";
+
+    public static final String DUPLICATE_BATCH_ID = "Item %d: Duplicate id %s";
+
+    public static final String BATCH_TIME_BUDGET_EXHAUSTED = "Batch time budget exhausted before this item could be sent";
 }
@@ -0,0 +1,44 @@
+package com.reliaquest.api.controller.impl;
+
+import com.reliaquest.api.models.Employee;
+import com.reliaquest.api.models.request.CreateEmployeeRequest;
+import com.reliaquest.api.models.response.BatchResponse;
+import com.reliaquest.api.service.IEmployeeBatchService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Bulk creates and deletes, kept apart from the fixed {@code IEmployeeController} contract.
+ * A batch is rejected with 400 as a whole if any item is invalid; otherwise the response is 200
+ * with one result (status, data or error) per item, in request order.
+ */
+@RestController
+@RequestMapping("/employee/batch")
+@Slf4j
+public class EmployeeBatchController {
+
+    private final IEmployeeBatchService employeeBatchService;
+
+    public EmployeeBatchController(final IEmployeeBatchService employeeBatchService) {
+        this.employeeBatchService = employeeBatchService;
+    }
+
+    @PostMapping()
+    public ResponseEntity<BatchResponse<Employee>> createEmployees(@RequestBody List<CreateEmployeeRequest> createEmployeeRequests) {
+        log.info("[EmployeeBatchController] :: Creating {} Employees", createEmployeeRequests.size());
+        return ResponseEntity.ok(employeeBatchService.createEmployees(createEmployeeRequests));
+    }
+
+    @DeleteMapping()
+    public ResponseEntity<BatchResponse<String>> deleteEmployees(@RequestBody List<String> ids) {
+        log.info("[EmployeeBatchController] :: Deleting {} Employees", ids.size());
+        return ResponseEntity.ok(employeeBatchService.deleteEmployees(ids));
+    }
+}
@@ -6,6 +6,7 @@ import com.reliaquest.api.models.request.CreateEmployeeRequest;
 import com.reliaquest.api.service.IEmployeeService;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
@@ -29,13 +30,13 @@ public class EmployeeController implements IEmployeeController<Employee, CreateE
     @Override
     public ResponseEntity<List<Employee>> getAllEmployees() {
         log.info("[EmployeeController] :: Getting All Employees");
-        return ResponseEntity.ok(employeeService.getAllEmployees());
+        return okWithRosterAge(employeeService.getAllEmployees());
     }
 
     @Override
     public ResponseEntity<List<Employee>> getEmployeesByNameSearch(String searchString) {
         log.info("[EmployeeController] :: Get Employees By Search for search String {}", searchString);
-        return ResponseEntity.ok(employeeService.getEmployeesByNameSearch(searchString));
+        return okWithRosterAge(employeeService.getEmployeesByNameSearch(searchString));
     }
 
     @Override
@@ -47,13 +48,13 @@ public class EmployeeController implements IEmployeeController<Employee, CreateE
     @Override
     public ResponseEntity<Integer> getHighestSalaryOfEmployees() {
         log.info("[EmployeeController] :: Get Highest Salary of Employee");
-        return ResponseEntity.ok(employeeService.getHighestSalaryOfEmployees());
+        return okWithRosterAge(employeeService.getHighestSalaryOfEmployees());
     }
 
     @Override
     public ResponseEntity<List<String>> getTopTenHighestEarningEmployeeNames() {
         log.info("[EmployeeController] :: Get Top Ten Highest Salaried Employees");
-        return ResponseEntity.ok(employeeService.getTopTenHighestEarningEmployeeNames());
+        return okWithRosterAge(employeeService.getTopTenHighestEarningEmployeeNames());
     }
 
     @Override
@@ -67,4 +68,15 @@ public class EmployeeController implements IEmployeeController<Employee, CreateE
         log.info("[EmployeeController] :: Deleting Employee with id {}", id);
         return new ResponseEntity<>(employeeService.deleteEmployeeById(id), HttpStatus.NO_CONTENT);
     }
+
+    /*
+     * The Age header tells callers how long ago the served roster was last confirmed against the
+     * upstream, which grows while the upstream is throttling and stale data is being served.
+     */
+    private <T> ResponseEntity<T> okWithRosterAge(T body) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        employeeService.getRosterAge()
+                .ifPresent(age -> response.header(HttpHeaders.AGE, String.valueOf(age.toSeconds())));
+        return response.body(body);
+    }
 }
@@ -0,0 +1,75 @@
+package com.reliaquest.api.controller.impl;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.reliaquest.api.models.Employee;
+import com.reliaquest.api.service.IEmployeeService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Bulk export of the roster for downstream jobs that pull everything, kept apart from the fixed
+ * {@code IEmployeeController} contract. Employees are written as newline-delimited JSON, one record
+ * at a time, with chunked transfer, so neither side needs to hold the whole roster as one document.
+ */
+@RestController
+@RequestMapping("/employee/export")
+@Slf4j
+public class EmployeeExportController {
+
+    private static final String RECORD_SEPARATOR = "\n";
+
+    private final IEmployeeService employeeService;
+
+    private final ObjectWriter employeeWriter;
+
+    public EmployeeExportController(final IEmployeeService employeeService, final ObjectMapper objectMapper) {
+        this.employeeService = employeeService;
+        // records are flushed in chunks by the servlet buffer rather than one by one
+        this.employeeWriter = objectMapper.writerFor(Employee.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .withRootValueSeparator(RECORD_SEPARATOR);
+    }
+
+    /**
+     * Method to export all employees as newline-delimited JSON. Writes block while the client is
+     * not reading, which holds back the export instead of buffering it.
+     *
+     * @return the streamed roster.
+     */
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportEmployees() {
+        log.info("[EmployeeExportController] :: Exporting All Employees");
+        // resolve the roster before committing the response, so load failures still map to an error status
+        Stream<Employee> employees = employeeService.streamAllEmployees();
+        StreamingResponseBody body = outputStream -> {
+            try (employees; JsonGenerator generator = employeeWriter.createGenerator(outputStream)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+                Iterator<Employee> iterator = employees.iterator();
+                if (!iterator.hasNext()) {
+                    return;
+                }
+                while (iterator.hasNext()) {
+                    employeeWriter.writeValue(generator, iterator.next());
+                }
+                // the separator only goes between records; NDJSON ends every record with one
+                generator.writeRaw(RECORD_SEPARATOR);
+            }
+        };
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON);
+        employeeService.getRosterAge()
+                .ifPresent(age -> response.header(HttpHeaders.AGE, String.valueOf(age.toSeconds())));
+        return response.body(body);
+    }
+}
@@ -0,0 +1,67 @@
+package com.reliaquest.api.controller.impl;
+
+import com.reliaquest.api.constants.ErrorConstants;
+import com.reliaquest.api.exception.EmployeeException;
+import com.reliaquest.api.models.response.EmployeePage;
+import com.reliaquest.api.service.IEmployeeService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+/**
+ * Cursor-paged listing of the roster, kept apart from the fixed {@code IEmployeeController} contract,
+ * so clients can walk a large roster in bounded responses instead of downloading it in one.
+ */
+@RestController
+@RequestMapping("/employee/page")
+@Slf4j
+public class EmployeePageController {
+
+    private static final int MAX_PAGE_SIZE = 1000;
+
+    private final IEmployeeService employeeService;
+
+    public EmployeePageController(final IEmployeeService employeeService) {
+        this.employeeService = employeeService;
+    }
+
+    /**
+     * Method to retrieve one page of employees in id order. Pages stay consistent while the roster
+     * changes: employees added or removed between requests are seen or skipped, never repeated.
+     *
+     * @param limit the maximum number of employees on the page.
+     * @param after the {@code next} value of the previous page; omitted for the first page.
+     * @return the page, with the cursor of the following page unless it is the last.
+     */
+    @GetMapping
+    public ResponseEntity<EmployeePage> getEmployeesPage(
+            @RequestParam(defaultValue = "100") int limit,
+            @RequestParam(required = false) String after) {
+        log.info("[EmployeePageController] :: Fetching Page of {} Employees", limit);
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw badRequest(ErrorConstants.INVALID_PAGE_SIZE.formatted(MAX_PAGE_SIZE));
+        }
+        return ResponseEntity.ok(employeeService.getEmployeesPage(parseCursor(after), limit));
+    }
+
+    private static UUID parseCursor(String after) {
+        if (after == null || after.isBlank()) {
+            return null;
+        }
+        try {
+            return UUID.fromString(after);
+        } catch (IllegalArgumentException e) {
+            throw badRequest(ErrorConstants.INVALID_PAGE_CURSOR);
+        }
+    }
+
+    private static EmployeeException badRequest(String message) {
+        return new EmployeeException(message, HttpStatusCode.valueOf(400));
+    }
+}
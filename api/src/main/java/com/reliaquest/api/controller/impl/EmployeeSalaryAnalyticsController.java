@@ -0,0 +1,98 @@
+package com.reliaquest.api.controller.impl;
+
+import com.reliaquest.api.constants.ErrorConstants;
+import com.reliaquest.api.exception.EmployeeException;
+import com.reliaquest.api.models.response.SalaryHistogramBucket;
+import com.reliaquest.api.models.response.SalaryPercentile;
+import com.reliaquest.api.models.response.SalaryStatistics;
+import com.reliaquest.api.service.IEmployeeService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Salary aggregates over the whole roster, kept apart from the fixed {@code IEmployeeController}
+ * contract, so clients get a few hundred bytes of statistics instead of downloading every employee.
+ * All endpoints answer from the same statistics, computed once per roster change.
+ */
+@RestController
+@RequestMapping("/employee/salary")
+@Slf4j
+public class EmployeeSalaryAnalyticsController {
+
+    private static final int MAX_HISTOGRAM_BUCKETS = 1000;
+
+    private static final int MAX_AGE_BAND_WIDTH = 100;
+
+    private final IEmployeeService employeeService;
+
+    public EmployeeSalaryAnalyticsController(final IEmployeeService employeeService) {
+        this.employeeService = employeeService;
+    }
+
+    @GetMapping("/percentiles")
+    public ResponseEntity<List<SalaryPercentile>> getSalaryPercentiles(
+            @RequestParam(name = "p", defaultValue = "25,50,75,90,99") List<Double> percentiles) {
+        log.info("[EmployeeSalaryAnalyticsController] :: Fetching Salary Percentiles {}", percentiles);
+        if (percentiles.stream().anyMatch(percentile -> percentile == null || !(percentile >= 0 && percentile <= 100))) {
+            throw badRequest(ErrorConstants.INVALID_PERCENTILE);
+        }
+        return ResponseEntity.ok(employeeService.getSalaryAnalytics().percentiles(percentiles));
+    }
+
+    /**
+     * Method to retrieve a salary histogram, either of {@code buckets} equal-width buckets spanning the
+     * lowest to the highest salary, or of the buckets between the given ascending {@code bounds}.
+     *
+     * @param buckets the number of equal-width buckets, used when no bounds are given.
+     * @param bounds  explicit bucket bounds, each bucket including its lower and excluding its upper bound.
+     * @return the histogram buckets in ascending order.
+     */
+    @GetMapping("/histogram")
+    public ResponseEntity<List<SalaryHistogramBucket>> getSalaryHistogram(
+            @RequestParam(defaultValue = "10") int buckets,
+            @RequestParam(required = false) List<Long> bounds) {
+        log.info("[EmployeeSalaryAnalyticsController] :: Fetching Salary Histogram");
+        if (bounds != null) {
+            if (bounds.size() < 2 || bounds.size() > MAX_HISTOGRAM_BUCKETS + 1) {
+                throw badRequest(ErrorConstants.INVALID_HISTOGRAM_BUCKETS.formatted(MAX_HISTOGRAM_BUCKETS));
+            }
+            long[] ascending = bounds.stream().mapToLong(Long::longValue).toArray();
+            for (int i = 1; i < ascending.length; i++) {
+                if (ascending[i] <= ascending[i - 1]) {
+                    throw badRequest(ErrorConstants.INVALID_HISTOGRAM_BOUNDS);
+                }
+            }
+            return ResponseEntity.ok(employeeService.getSalaryAnalytics().histogram(ascending));
+        }
+        if (buckets < 1 || buckets > MAX_HISTOGRAM_BUCKETS) {
+            throw badRequest(ErrorConstants.INVALID_HISTOGRAM_BUCKETS.formatted(MAX_HISTOGRAM_BUCKETS));
+        }
+        return ResponseEntity.ok(employeeService.getSalaryAnalytics().histogram(buckets));
+    }
+
+    @GetMapping("/byTitle")
+    public ResponseEntity<List<SalaryStatistics>> getSalaryStatisticsByTitle() {
+        log.info("[EmployeeSalaryAnalyticsController] :: Fetching Salary Statistics by Title");
+        return ResponseEntity.ok(employeeService.getSalaryAnalytics().byTitle());
+    }
+
+    @GetMapping("/byAgeBand")
+    public ResponseEntity<List<SalaryStatistics>> getSalaryStatisticsByAgeBand(@RequestParam(defaultValue = "10") int width) {
+        log.info("[EmployeeSalaryAnalyticsController] :: Fetching Salary Statistics by Age Band of {}", width);
+        if (width < 1 || width > MAX_AGE_BAND_WIDTH) {
+            throw badRequest(ErrorConstants.INVALID_AGE_BAND_WIDTH.formatted(MAX_AGE_BAND_WIDTH));
+        }
+        return ResponseEntity.ok(employeeService.getSalaryAnalytics().byAgeBand(width));
+    }
+
+    private static EmployeeException badRequest(String message) {
+        return new EmployeeException(message, HttpStatusCode.valueOf(400));
+    }
+}
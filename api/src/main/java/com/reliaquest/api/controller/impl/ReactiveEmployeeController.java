@@ -0,0 +1,103 @@
+package com.reliaquest.api.controller.impl;
+
+import com.reliaquest.api.models.Employee;
+import com.reliaquest.api.models.request.CreateEmployeeRequest;
+import com.reliaquest.api.service.impl.ReactiveEmployeeService;
+import jakarta.validation.Valid;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Asynchronous variant of the employee API, available with {@code employee.service.mode=reactive}.
+ * Handlers return {@link Mono}, so the servlet request thread is released while an upstream call is
+ * in flight. {@code IEmployeeController} is a fixed contract with synchronous return types, hence the
+ * separate mapping.
+ */
+@RestController
+@RequestMapping("/reactive/employee")
+@ConditionalOnProperty(name = "employee.service.mode", havingValue = "reactive")
+@Slf4j
+public class ReactiveEmployeeController {
+
+    private final ReactiveEmployeeService employeeService;
+
+    public ReactiveEmployeeController(final ReactiveEmployeeService employeeService) {
+        this.employeeService = employeeService;
+    }
+
+    @GetMapping()
+    public Mono<ResponseEntity<List<Employee>>> getAllEmployees() {
+        log.info("[ReactiveEmployeeController] :: Getting All Employees");
+        return employeeService.getAllEmployeesAsync().map(this::okWithRosterAge);
+    }
+
+    /**
+     * Method to export the whole roster as newline-delimited JSON. Employees are emitted as the
+     * client consumes them, so a slow reader holds back the stream instead of filling a buffer.
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<Employee> exportEmployees() {
+        log.info("[ReactiveEmployeeController] :: Exporting All Employees");
+        return employeeService.streamAllEmployeesAsync();
+    }
+
+    @GetMapping("/search/{searchString}")
+    public Mono<ResponseEntity<List<Employee>>> getEmployeesByNameSearch(@PathVariable String searchString) {
+        log.info("[ReactiveEmployeeController] :: Get Employees By Search for search String {}", searchString);
+        return employeeService.getEmployeesByNameSearchAsync(searchString).map(this::okWithRosterAge);
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<Employee>> getEmployeeById(@PathVariable String id) {
+        log.info("[ReactiveEmployeeController] :: Get Employee for id {}", id);
+        return employeeService.getEmployeeByIdAsync(id).map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/highestSalary")
+    public Mono<ResponseEntity<Integer>> getHighestSalaryOfEmployees() {
+        log.info("[ReactiveEmployeeController] :: Get Highest Salary of Employee");
+        return employeeService.getHighestSalaryOfEmployeesAsync().map(this::okWithRosterAge);
+    }
+
+    @GetMapping("/topTenHighestEarningEmployeeNames")
+    public Mono<ResponseEntity<List<String>>> getTopTenHighestEarningEmployeeNames() {
+        log.info("[ReactiveEmployeeController] :: Get Top Ten Highest Salaried Employees");
+        return employeeService.getTopTenHighestEarningEmployeeNamesAsync().map(this::okWithRosterAge);
+    }
+
+    @PostMapping()
+    public Mono<ResponseEntity<Employee>> createEmployee(@Valid @RequestBody CreateEmployeeRequest createEmployeeRequest) {
+        log.info("[ReactiveEmployeeController] :: Creating Employee");
+        return employeeService.createEmployeeAsync(createEmployeeRequest)
+                .map(employee -> new ResponseEntity<>(employee, HttpStatus.CREATED));
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<String>> deleteEmployeeById(@PathVariable String id) {
+        log.info("[ReactiveEmployeeController] :: Deleting Employee with id {}", id);
+        return employeeService.deleteEmployeeByIdAsync(id)
+                .then(Mono.fromSupplier(() -> new ResponseEntity<>(HttpStatus.NO_CONTENT)));
+    }
+
+    private <T> ResponseEntity<T> okWithRosterAge(T body) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        employeeService.getRosterAge()
+                .ifPresent(age -> response.header(HttpHeaders.AGE, String.valueOf(age.toSeconds())));
+        return response.body(body);
+    }
+}
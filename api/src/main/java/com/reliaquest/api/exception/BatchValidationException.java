@@ -0,0 +1,21 @@
+package com.reliaquest.api.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+import java.util.List;
+
+/**
+ * Raised when a batch request is rejected as a whole because some of its items are invalid.
+ * Nothing of the batch has been sent upstream at that point.
+ */
+@Getter
+public class BatchValidationException extends EmployeeException {
+
+    private final List<String> errors;
+
+    public BatchValidationException(List<String> errors) {
+        super(String.join("; ", errors), HttpStatus.BAD_REQUEST);
+        this.errors = List.copyOf(errors);
+    }
+}
@@ -0,0 +1,21 @@
+package com.reliaquest.api.exception;
+
+import com.reliaquest.api.constants.ErrorConstants;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+import java.time.Duration;
+
+/**
+ * Raised when a call to the mock employee server is not admitted because its rate limit is known
+ * to be exhausted for longer than the caller is allowed to wait.
+ */
+@Getter
+public class UpstreamThrottledException extends EmployeeException {
+    private final Duration retryAfter;
+
+    public UpstreamThrottledException(Duration retryAfter) {
+        super(ErrorConstants.TOO_MANY_REQUESTS, HttpStatus.TOO_MANY_REQUESTS);
+        this.retryAfter = retryAfter;
+    }
+}
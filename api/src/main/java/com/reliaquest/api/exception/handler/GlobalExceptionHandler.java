@@ -1,16 +1,20 @@
 package com.reliaquest.api.exception.handler;
 
 import com.reliaquest.api.constants.ErrorConstants;
+import com.reliaquest.api.exception.BatchValidationException;
 import com.reliaquest.api.exception.EmployeeErrorResponse;
 import com.reliaquest.api.exception.EmployeeException;
+import com.reliaquest.api.exception.UpstreamThrottledException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.support.DefaultMessageSourceResolvable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.context.request.WebRequest;
 
 import java.time.LocalDateTime;
@@ -66,5 +70,43 @@ public class GlobalExceptionHandler {
 
         return new ResponseEntity<>(errorResponse, ex.getHttpStatusCode());
     }
-}
 
+    @ExceptionHandler(BatchValidationException.class)
+    public ResponseEntity<EmployeeErrorResponse> handleBatchValidationException(BatchValidationException ex) {
+        EmployeeErrorResponse errorResponse = new EmployeeErrorResponse();
+        errorResponse.setErrorCode(HttpStatus.BAD_REQUEST.value());
+        errorResponse.setErrorMessage(ex.getErrors());
+        errorResponse.setTimestamp(LocalDateTime.now());
+
+        log.error("Bad Batch Request while hitting the API with error {}", errorResponse);
+
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(UpstreamThrottledException.class)
+    public ResponseEntity<EmployeeErrorResponse> handleUpstreamThrottledException(UpstreamThrottledException ex) {
+        EmployeeErrorResponse errorResponse = new EmployeeErrorResponse();
+        errorResponse.setErrorCode(HttpStatus.TOO_MANY_REQUESTS.value());
+        errorResponse.setErrorMessage(List.of(ex.getMessage()));
+        errorResponse.setTimestamp(LocalDateTime.now());
+
+        log.error("Upstream throttled, rejecting request {}", errorResponse);
+
+        long retryAfterSeconds = Math.max(1, (ex.getRetryAfter().toMillis() + 999) / 1000);
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(errorResponse);
+    }
+
+    @ExceptionHandler(ResourceAccessException.class)
+    public ResponseEntity<EmployeeErrorResponse> handleResourceAccessException(ResourceAccessException ex) {
+        EmployeeErrorResponse errorResponse = new EmployeeErrorResponse();
+        errorResponse.setErrorCode(HttpStatus.SERVICE_UNAVAILABLE.value());
+        errorResponse.setErrorMessage(List.of(ErrorConstants.UPSTREAM_UNAVAILABLE));
+        errorResponse.setTimestamp(LocalDateTime.now());
+
+        log.error("Upstream unreachable or timed out: {}", ex.getMessage());
+
+        return new ResponseEntity<>(errorResponse, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+}
@@ -1,5 +1,6 @@
 package com.reliaquest.api.models.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -7,7 +8,17 @@ import lombok.NoArgsConstructor;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class APIResponse<T> {
     private T data;
     private String status;
+
+    /**
+     * Cursor of the following roster page, only set on a paged roster response that is not the last page.
+     */
+    private String next;
+
+    public APIResponse(T data, String status) {
+        this(data, status, null);
+    }
 }
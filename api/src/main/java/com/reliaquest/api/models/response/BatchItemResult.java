@@ -0,0 +1,28 @@
+package com.reliaquest.api.models.response;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of one item of a batch request, in the position it had in the request.
+ *
+ * @param <T> the result of a successful item.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BatchItemResult<T> {
+    private int index;
+    private int status;
+    private T data;
+    private String errorMessage;
+
+    @JsonIgnore
+    public boolean isSuccessful() {
+        return status >= 200 && status < 300;
+    }
+}
@@ -0,0 +1,21 @@
+package com.reliaquest.api.models.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchResponse<T> {
+    private int succeeded;
+    private int failed;
+    private List<BatchItemResult<T>> results;
+
+    public static <T> BatchResponse<T> of(List<BatchItemResult<T>> results) {
+        int succeeded = (int) results.stream().filter(BatchItemResult::isSuccessful).count();
+        return new BatchResponse<>(succeeded, results.size() - succeeded, results);
+    }
+}
@@ -0,0 +1,22 @@
+package com.reliaquest.api.models.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.reliaquest.api.models.Employee;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of employees in id order. {@code next} is passed as {@code after} to fetch the following
+ * page and is left out on the last page.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class EmployeePage {
+    private List<Employee> employees;
+    private String next;
+}
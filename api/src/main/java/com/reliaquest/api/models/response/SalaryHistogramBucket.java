@@ -0,0 +1,17 @@
+package com.reliaquest.api.models.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Number of salaries from {@code from} (inclusive) up to {@code to} (exclusive).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SalaryHistogramBucket {
+    private long from;
+    private long to;
+    private int count;
+}
@@ -0,0 +1,13 @@
+package com.reliaquest.api.models.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SalaryPercentile {
+    private double percentile;
+    private int salary;
+}
@@ -0,0 +1,19 @@
+package com.reliaquest.api.models.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Salary statistics of a group of employees, e.g. everyone with the same title.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SalaryStatistics {
+    private String group;
+    private int count;
+    private double average;
+    private int min;
+    private int max;
+}
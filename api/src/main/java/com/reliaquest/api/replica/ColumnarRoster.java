@@ -0,0 +1,103 @@
+package com.reliaquest.api.replica;
+
+import com.reliaquest.api.models.Employee;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable column-oriented snapshot of the roster for full-roster aggregates such as
+ * {@link SalaryAnalytics}. Salaries and ages are held in {@code int[]} and titles as codes into a
+ * dictionary of the distinct titles, so an aggregate is a scan over contiguous primitive arrays
+ * instead of a walk over {@link Employee} objects with boxed fields. The highest salary and top
+ * earners are not answered here: {@link SalaryIndex} keeps them at the head of its ordering.
+ * <p>
+ * Row {@code i} of every column belongs to the same employee; rows are in no particular order.
+ * Missing salaries and ages are stored as {@link #MISSING}, missing titles as code {@code -1}.
+ */
+public final class ColumnarRoster {
+
+    public static final int MISSING = Integer.MIN_VALUE;
+
+    static final ColumnarRoster EMPTY = of(List.of(), -1);
+
+    private final long version;
+
+    private final int[] salaries;
+
+    private final int[] ages;
+
+    private final int[] titleCodes;
+
+    private final String[] titles;
+
+    private ColumnarRoster(long version, int[] salaries, int[] ages, int[] titleCodes, String[] titles) {
+        this.version = version;
+        this.salaries = salaries;
+        this.ages = ages;
+        this.titleCodes = titleCodes;
+        this.titles = titles;
+    }
+
+    /**
+     * Method to build the columns of the given employees.
+     *
+     * @param employees the employees, none of them null.
+     * @param version   the replica version the employees were read at.
+     * @return the columnar snapshot.
+     */
+    static ColumnarRoster of(List<Employee> employees, long version) {
+        int size = employees.size();
+        int[] salaries = new int[size];
+        int[] ages = new int[size];
+        int[] titleCodes = new int[size];
+        Map<String, Integer> dictionary = new HashMap<>();
+        for (int row = 0; row < size; row++) {
+            Employee employee = employees.get(row);
+            salaries[row] = employee.getSalary() == null ? MISSING : employee.getSalary();
+            ages[row] = employee.getAge() == null ? MISSING : employee.getAge();
+            titleCodes[row] = employee.getTitle() == null
+                    ? -1
+                    : dictionary.computeIfAbsent(employee.getTitle(), ignored -> dictionary.size());
+        }
+        String[] titles = new String[dictionary.size()];
+        dictionary.forEach((title, code) -> titles[code] = title);
+        return new ColumnarRoster(version, salaries, ages, titleCodes, titles);
+    }
+
+    long version() {
+        return version;
+    }
+
+    public int size() {
+        return salaries.length;
+    }
+
+    public int salary(int row) {
+        return salaries[row];
+    }
+
+    public int age(int row) {
+        return ages[row];
+    }
+
+    /**
+     * Method to retrieve the dictionary code of an employee's title; equal titles share a code.
+     *
+     * @param row the employee's row.
+     * @return an index into {@link #titles()}, or -1 if the employee has no title.
+     */
+    public int titleCode(int row) {
+        return titleCodes[row];
+    }
+
+    /**
+     * Method to retrieve the distinct titles, indexed by title code.
+     *
+     * @return the title dictionary.
+     */
+    public List<String> titles() {
+        return List.of(titles);
+    }
+}
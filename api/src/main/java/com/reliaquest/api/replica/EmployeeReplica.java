@@ -0,0 +1,496 @@
+package com.reliaquest.api.replica;
+
+import com.reliaquest.api.models.Employee;
+import com.reliaquest.api.models.response.EmployeePage;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * In-memory replica of the upstream employee roster, indexed by employee id, salary and name trigrams.
+ * Reads never take a lock; writes are serialized so a full reload and an incremental
+ * change can never interleave. Single-employee writes are journaled with the version they produced,
+ * and a reload replays the ones made after it started onto the fetched roster before publishing it,
+ * so a create or delete that lands mid-reload is not undone by it.
+ * Every change to the roster bumps the replica's version; aggregates read a {@link ColumnarRoster} that is rebuilt
+ * lazily, at most once per version.
+ * Its size and age are published as gauges.
+ */
+@Component
+@Slf4j
+public class EmployeeReplica implements MeterBinder {
+
+    static final int WRITE_JOURNAL_MAX = 10_000;
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    /*
+     * Recent single-employee writes, oldest first; only accessed under the write lock. Writes older
+     * than journalTrimmedThrough were dropped to bound it.
+     */
+    private final Deque<Write> writeJournal = new ArrayDeque<>();
+
+    private long journalTrimmedThrough;
+
+    private volatile RosterState state = new RosterState(new ConcurrentHashMap<>(), new SalaryIndex(), new NameTrigramIndex());
+
+    private volatile Instant lastSyncedAt;
+
+    private volatile long version;
+
+    private volatile String upstreamETag;
+
+    private final ReentrantLock columnsLock = new ReentrantLock();
+
+    private volatile ColumnarRoster columns = ColumnarRoster.EMPTY;
+
+    private volatile SalaryAnalytics salaryAnalytics;
+
+    private volatile IdOrder idOrder = new IdOrder(-1, new UUID[0]);
+
+    /**
+     * Method to check whether the replica has been loaded from the upstream at least once.
+     *
+     * @return true once the first full load has completed.
+     */
+    public boolean isInitialized() {
+        return lastSyncedAt != null;
+    }
+
+    /**
+     * Method to retrieve how long ago the replica was last loaded from the upstream.
+     *
+     * @return the age of the replicated roster, or empty if it was never loaded.
+     */
+    public Optional<Duration> getAge() {
+        return Optional.ofNullable(lastSyncedAt)
+                .map(syncedAt -> Duration.between(syncedAt, Instant.now()));
+    }
+
+    /**
+     * Method to check whether the replica is missing or older than the given bound.
+     *
+     * @param maxAge the maximum acceptable age.
+     * @return true if the replica was never loaded or is older than {@code maxAge}.
+     */
+    public boolean isOlderThan(Duration maxAge) {
+        return getAge()
+                .map(age -> age.compareTo(maxAge) > 0)
+                .orElse(true);
+    }
+
+    /**
+     * Method to retrieve the upstream's ETag for the roster last loaded in full.
+     *
+     * @return the tag to revalidate the roster with, or null if there is none to trust.
+     */
+    public String getUpstreamETag() {
+        return upstreamETag;
+    }
+
+    /**
+     * Method to record that the upstream confirmed the replicated roster as still current,
+     * e.g. by answering a conditional request with 304, so it counts as freshly loaded.
+     */
+    public void confirmUnchanged() {
+        writeLock.lock();
+        try {
+            lastSyncedAt = Instant.now();
+            log.debug("[EmployeeReplica] :: Upstream confirmed {} Employees as unchanged", size());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public int size() {
+        return state.employeesById().size();
+    }
+
+    /**
+     * Method to retrieve the replica's version, which changes whenever the roster does.
+     *
+     * @return the current version.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("employee.replica.size", this, EmployeeReplica::size)
+                .description("Number of employees held in the replica")
+                .register(registry);
+        TimeGauge.builder("employee.replica.age", this, TimeUnit.MILLISECONDS,
+                        replica -> replica.getAge().map(Duration::toMillis).map(Long::doubleValue).orElse(Double.NaN))
+                .description("Time since the replica was last loaded from the upstream")
+                .register(registry);
+    }
+
+    /**
+     * Method to retrieve a snapshot of all replicated employees.
+     *
+     * @return an immutable copy of the replicated roster.
+     */
+    public List<Employee> findAll() {
+        return List.copyOf(state.employeesById().values());
+    }
+
+    /**
+     * Method to stream the replicated employees without copying the roster first.
+     * The stream reflects the roster at the time of the call; concurrent single-employee
+     * changes may or may not be visible to it.
+     *
+     * @return a stream over the replicated roster.
+     */
+    public Stream<Employee> stream() {
+        return state.employeesById().values().stream();
+    }
+
+    public Optional<Employee> findById(UUID id) {
+        return Optional.ofNullable(state.employeesById().get(id));
+    }
+
+    /**
+     * Method to retrieve the employees whose name contains the given string, ignoring case.
+     *
+     * @param searchString the string to search for.
+     * @return the matching employees.
+     */
+    public List<Employee> findByNameContaining(String searchString) {
+        RosterState current = state;
+        return current.nameIndex()
+                .search(searchString)
+                .stream()
+                .map(current.employeesById()::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * Method to retrieve the highest salary held in the replica.
+     *
+     * @return the highest salary, or empty if the replica holds no salaried employees.
+     */
+    public Optional<Integer> findHighestSalary() {
+        return state.salaryIndex().highestSalary();
+    }
+
+    /**
+     * Method to retrieve the highest earning employees, highest salary first.
+     *
+     * @param limit the maximum number of employees to return.
+     * @return at most {@code limit} employees ordered by descending salary.
+     */
+    public List<Employee> findTopEarners(int limit) {
+        return state.salaryIndex().topEarners(limit);
+    }
+
+    /**
+     * Method to retrieve a page of the roster in id order, continuing after the given id. The ids are
+     * sorted on the first call after a write and shared until the next one, so each page costs a binary
+     * search; the employee after which a page continues need not exist anymore.
+     *
+     * @param after the last id of the previous page, or null for the first page.
+     * @param limit the maximum number of employees to return.
+     * @return at most {@code limit} employees with ids greater than {@code after}, in id order, and
+     * the cursor of the following page if there are more.
+     */
+    public EmployeePage findPage(UUID after, int limit) {
+        UUID[] ids = sortedIds();
+        int from = 0;
+        if (after != null) {
+            int index = Arrays.binarySearch(ids, after);
+            from = index >= 0 ? index + 1 : -index - 1;
+        }
+        Map<UUID, Employee> employeesById = state.employeesById();
+        List<Employee> employees = Arrays.stream(ids, from, ids.length)
+                .map(employeesById::get)
+                .filter(Objects::nonNull)
+                .limit(limit + 1L)
+                .toList();
+        if (employees.size() <= limit) {
+            return new EmployeePage(employees, null);
+        }
+        List<Employee> page = employees.subList(0, limit);
+        return new EmployeePage(page, page.get(limit - 1).getId().toString());
+    }
+
+    /**
+     * Method to retrieve the roster in columnar form for aggregates. The columns are built on the first
+     * call after a write and shared until the next one, so bursts of writes cost a single rebuild.
+     *
+     * @return the columnar snapshot of the current roster.
+     */
+    public ColumnarRoster columns() {
+        ColumnarRoster current = columns;
+        if (current.version() == version) {
+            return current;
+        }
+        columnsLock.lock();
+        try {
+            // the version is read before the roster, so a write racing the build leaves the columns
+            // tagged with an older version and they are rebuilt on the next call
+            long building = version;
+            current = columns;
+            if (current.version() != building) {
+                current = ColumnarRoster.of(List.copyOf(state.employeesById().values()), building);
+                columns = current;
+                log.debug("[EmployeeReplica] :: Built columns of {} Employees at version {}", current.size(), building);
+            }
+            return current;
+        } finally {
+            columnsLock.unlock();
+        }
+    }
+
+    /**
+     * Method to retrieve the salary statistics of the roster. They are computed from the columns on the
+     * first call after a write and shared until the next one.
+     *
+     * @return the salary statistics of the current roster.
+     */
+    public SalaryAnalytics salaryAnalytics() {
+        ColumnarRoster current = columns();
+        SalaryAnalytics analytics = salaryAnalytics;
+        if (analytics != null && analytics.isOf(current)) {
+            return analytics;
+        }
+        columnsLock.lock();
+        try {
+            analytics = salaryAnalytics;
+            if (analytics == null || !analytics.isOf(current)) {
+                analytics = SalaryAnalytics.of(current);
+                salaryAnalytics = analytics;
+            }
+            return analytics;
+        } finally {
+            columnsLock.unlock();
+        }
+    }
+
+    /**
+     * Method to replace the whole replica with a freshly fetched roster.
+     * Readers keep seeing the previous roster until the new one and its indexes are fully built.
+     *
+     * @param employees the complete upstream roster.
+     * @return true if the roster differs from what the replica held before.
+     */
+    public boolean replaceAll(Collection<Employee> employees) {
+        RosterLoad load = startReload();
+        employees.forEach(load);
+        return load.commit();
+    }
+
+    /**
+     * Method to start building a replacement roster employee by employee, e.g. while the upstream
+     * response is still being parsed. Nothing is visible to readers until {@link RosterLoad#commit()}.
+     *
+     * @return an empty roster to fill and commit.
+     */
+    public RosterLoad startReload() {
+        return new RosterLoad();
+    }
+
+    /**
+     * Method to add or replace a single employee in the replica.
+     *
+     * @param employee the employee to store.
+     */
+    public void put(Employee employee) {
+        if (employee == null || employee.getId() == null) {
+            return;
+        }
+        writeLock.lock();
+        try {
+            RosterState current = state;
+            Employee previous = current.employeesById().put(employee.getId(), employee);
+            if (previous != null) {
+                current.salaryIndex().remove(previous);
+                current.nameIndex().remove(previous);
+            }
+            current.salaryIndex().add(employee);
+            current.nameIndex().add(employee);
+            version++;
+            journal(new Write(version, employee.getId(), employee));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Method to remove a single employee from the replica.
+     *
+     * @param id the unique id of the employee.
+     * @return the removed employee, if it was present.
+     */
+    public Optional<Employee> remove(UUID id) {
+        writeLock.lock();
+        try {
+            RosterState current = state;
+            Employee removed = current.employeesById().remove(id);
+            if (removed != null) {
+                current.salaryIndex().remove(removed);
+                current.nameIndex().remove(removed);
+                version++;
+                journal(new Write(version, id, null));
+            }
+            return Optional.ofNullable(removed);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void journal(Write write) {
+        writeJournal.addLast(write);
+        if (writeJournal.size() > WRITE_JOURNAL_MAX) {
+            journalTrimmedThrough = writeJournal.removeFirst().version();
+        }
+    }
+
+    private UUID[] sortedIds() {
+        IdOrder current = idOrder;
+        if (current.version() == version) {
+            return current.ids();
+        }
+        columnsLock.lock();
+        try {
+            // as for the columns, the version is read before the roster
+            long sorting = version;
+            current = idOrder;
+            if (current.version() != sorting) {
+                UUID[] ids = state.employeesById().keySet().toArray(UUID[]::new);
+                Arrays.sort(ids);
+                current = new IdOrder(sorting, ids);
+                idOrder = current;
+            }
+            return current.ids();
+        } finally {
+            columnsLock.unlock();
+        }
+    }
+
+    /**
+     * A replacement roster under construction. Its indexes are built as employees arrive,
+     * so committing is a single reference swap.
+     */
+    public final class RosterLoad implements Consumer<Employee> {
+
+        private final RosterState loaded = new RosterState(new ConcurrentHashMap<>(), new SalaryIndex(), new NameTrigramIndex());
+
+        /*
+         * Writes that produced a later version may be missing from what the upstream returned.
+         */
+        private final long startVersion = version;
+
+        private RosterLoad() {
+        }
+
+        @Override
+        public void accept(Employee employee) {
+            if (employee == null || employee.getId() == null) {
+                return;
+            }
+            Employee previous = loaded.employeesById().put(employee.getId(), employee);
+            if (previous != null) {
+                loaded.salaryIndex().remove(previous);
+                loaded.nameIndex().remove(previous);
+            }
+            loaded.salaryIndex().add(employee);
+            loaded.nameIndex().add(employee);
+        }
+
+        /**
+         * Method to publish the loaded roster as the new replica.
+         *
+         * @return true if the roster differs from what the replica held before.
+         */
+        public boolean commit() {
+            return commit(null);
+        }
+
+        /**
+         * Method to publish the loaded roster as the new replica, along with the upstream's ETag for it.
+         * Creates and deletes applied to the replica since the load started are replayed onto it first;
+         * both are idempotent, so this is right whether or not the upstream roster already had them.
+         * If more writes landed during the load than the journal keeps, the load is discarded and the
+         * replica keeps its roster and age.
+         *
+         * @param eTag the tag to revalidate the roster with later, or null if it has none.
+         * @return true if the roster differs from what the replica held before.
+         */
+        public boolean commit(String eTag) {
+            writeLock.lock();
+            try {
+                if (journalTrimmedThrough > startVersion) {
+                    log.warn("[EmployeeReplica] :: Discarding reload, too many writes landed while it was running");
+                    return false;
+                }
+                int replayed = replayWritesSinceStart();
+                boolean changed = !loaded.employeesById().equals(state.employeesById());
+                state = loaded;
+                upstreamETag = eTag;
+                if (changed) {
+                    version++;
+                }
+                lastSyncedAt = Instant.now();
+                log.debug("[EmployeeReplica] :: Reloaded {} Employees (changed: {}, replayed writes: {})",
+                        loaded.employeesById().size(), changed, replayed);
+                return changed;
+            } finally {
+                writeLock.unlock();
+            }
+        }
+
+        private int replayWritesSinceStart() {
+            int replayed = 0;
+            for (Write write : writeJournal) {
+                if (write.version() <= startVersion) {
+                    continue;
+                }
+                if (write.employee() != null) {
+                    accept(write.employee());
+                } else {
+                    Employee removed = loaded.employeesById().remove(write.id());
+                    if (removed != null) {
+                        loaded.salaryIndex().remove(removed);
+                        loaded.nameIndex().remove(removed);
+                    }
+                }
+                replayed++;
+            }
+            return replayed;
+        }
+    }
+
+    /*
+     * A create or update when employee is set, a removal of id otherwise.
+     */
+    private record Write(long version, UUID id, Employee employee) {
+    }
+
+    private record IdOrder(long version, UUID[] ids) {
+    }
+
+    private record RosterState(Map<UUID, Employee> employeesById, SalaryIndex salaryIndex, NameTrigramIndex nameIndex) {
+    }
+}
@@ -0,0 +1,117 @@
+package com.reliaquest.api.replica;
+
+import com.reliaquest.api.models.Employee;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Inverted index from name trigrams to employee ids, used for case-insensitive substring search.
+ * A query only touches the postings of its own trigrams and verifies the (usually tiny) intersection
+ * against the normalized names, instead of lowercasing every name in the roster.
+ * Queries shorter than a trigram fall back to a scan over the pre-normalized names.
+ */
+class NameTrigramIndex {
+
+    private static final int GRAM_LENGTH = 3;
+
+    private final Map<UUID, String> normalizedNames = new ConcurrentHashMap<>();
+
+    private final Map<String, Set<UUID>> postings = new ConcurrentHashMap<>();
+
+    NameTrigramIndex() {
+    }
+
+    NameTrigramIndex(Collection<Employee> roster) {
+        roster.forEach(this::add);
+    }
+
+    static String normalize(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    void add(Employee employee) {
+        if (!isIndexable(employee)) {
+            return;
+        }
+        String name = normalize(employee.getName());
+        normalizedNames.put(employee.getId(), name);
+        for (String gram : grams(name)) {
+            postings.computeIfAbsent(gram, ignored -> ConcurrentHashMap.newKeySet()).add(employee.getId());
+        }
+    }
+
+    void remove(Employee employee) {
+        if (!isIndexable(employee)) {
+            return;
+        }
+        String name = normalizedNames.remove(employee.getId());
+        if (name == null) {
+            return;
+        }
+        for (String gram : grams(name)) {
+            postings.computeIfPresent(gram, (ignored, ids) -> {
+                ids.remove(employee.getId());
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+
+    /**
+     * Method to find the ids of all employees whose name contains the given string, ignoring case.
+     *
+     * @param searchString the string to search for.
+     * @return the ids of matching employees.
+     */
+    List<UUID> search(String searchString) {
+        String query = normalize(searchString);
+        if (query.length() < GRAM_LENGTH) {
+            return normalizedNames.entrySet()
+                    .stream()
+                    .filter(entry -> entry.getValue().contains(query))
+                    .map(Map.Entry::getKey)
+                    .toList();
+        }
+
+        List<Set<UUID>> candidatePostings = new ArrayList<>();
+        for (String gram : grams(query)) {
+            Set<UUID> ids = postings.get(gram);
+            if (ids == null) {
+                return List.of();
+            }
+            candidatePostings.add(ids);
+        }
+        candidatePostings.sort(Comparator.comparingInt(Set::size));
+
+        Set<UUID> smallest = candidatePostings.get(0);
+        List<Set<UUID>> others = candidatePostings.subList(1, candidatePostings.size());
+        return smallest.stream()
+                .filter(id -> others.stream().allMatch(ids -> ids.contains(id)))
+                .filter(id -> {
+                    String name = normalizedNames.get(id);
+                    return name != null && name.contains(query);
+                })
+                .toList();
+    }
+
+    private static Set<String> grams(String value) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= value.length(); i++) {
+            grams.add(value.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+
+    private boolean isIndexable(Employee employee) {
+        return Objects.nonNull(employee.getName()) && Objects.nonNull(employee.getId());
+    }
+}
@@ -0,0 +1,288 @@
+package com.reliaquest.api.replica;
+
+import com.reliaquest.api.models.response.SalaryHistogramBucket;
+import com.reliaquest.api.models.response.SalaryPercentile;
+import com.reliaquest.api.models.response.SalaryStatistics;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Salary statistics of one {@link ColumnarRoster} snapshot, computed once and shared until the roster
+ * changes. The per-title and per-age sums, minimums and maximums come from a single (parallel, for
+ * large rosters) pass over the columns, and the salaries are sorted once, so percentiles and
+ * histograms are answered with binary searches instead of another pass.
+ */
+public final class SalaryAnalytics {
+
+    private static final int PARALLEL_THRESHOLD = 10_000;
+
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+    /*
+     * Ages outside 0..MAX_AGE are left out of the age bands rather than sizing the bands by them.
+     */
+    private static final int MAX_AGE = 150;
+
+    private final ColumnarRoster columns;
+
+    private final int[] sortedSalaries;
+
+    private final Groups byTitle;
+
+    private final Groups byAge;
+
+    private SalaryAnalytics(ColumnarRoster columns, int[] sortedSalaries, Groups byTitle, Groups byAge) {
+        this.columns = columns;
+        this.sortedSalaries = sortedSalaries;
+        this.byTitle = byTitle;
+        this.byAge = byAge;
+    }
+
+    static SalaryAnalytics of(ColumnarRoster columns) {
+        IntStream rows = IntStream.range(0, columns.size());
+        if (columns.size() >= PARALLEL_THRESHOLD) {
+            rows = rows.parallel();
+        }
+        Accumulator accumulator = rows.collect(
+                () -> new Accumulator(columns.titles().size()),
+                (partial, row) -> partial.add(columns, row),
+                Accumulator::merge);
+
+        int[] sortedSalaries = Arrays.copyOf(accumulator.salaries, accumulator.salaryCount);
+        if (columns.size() >= PARALLEL_THRESHOLD) {
+            Arrays.parallelSort(sortedSalaries);
+        } else {
+            Arrays.sort(sortedSalaries);
+        }
+        return new SalaryAnalytics(columns, sortedSalaries, accumulator.byTitle, accumulator.byAge);
+    }
+
+    boolean isOf(ColumnarRoster roster) {
+        return columns == roster;
+    }
+
+    /**
+     * Method to retrieve the number of employees with a salary.
+     *
+     * @return the number of salaries the statistics are computed over.
+     */
+    public int count() {
+        return sortedSalaries.length;
+    }
+
+    /**
+     * Method to compute salary percentiles by the nearest-rank method, e.g. the 50th percentile is
+     * the lowest salary at least half of the employees earn at most. Ranks are computed in decimal,
+     * since e.g. {@code 7.0 / 100 * 100} is slightly above 7 in floating point and would round up a rank.
+     *
+     * @param percentiles the percentiles, each between 0 and 100.
+     * @return one entry per requested percentile, in request order; empty if there are no salaries.
+     */
+    public List<SalaryPercentile> percentiles(List<Double> percentiles) {
+        if (sortedSalaries.length == 0) {
+            return List.of();
+        }
+        return percentiles.stream()
+                .map(percentile -> {
+                    int rank = BigDecimal.valueOf(percentile)
+                            .multiply(BigDecimal.valueOf(sortedSalaries.length))
+                            .divide(HUNDRED, 0, RoundingMode.CEILING)
+                            .intValueExact();
+                    return new SalaryPercentile(percentile, sortedSalaries[Math.max(rank, 1) - 1]);
+                })
+                .toList();
+    }
+
+    /**
+     * Method to count salaries into buckets of equal width covering the lowest to the highest salary.
+     *
+     * @param buckets the number of buckets.
+     * @return the buckets in ascending order; empty if there are no salaries.
+     */
+    public List<SalaryHistogramBucket> histogram(int buckets) {
+        if (sortedSalaries.length == 0) {
+            return List.of();
+        }
+        long lowest = sortedSalaries[0];
+        long width = Math.max(1, (sortedSalaries[sortedSalaries.length - 1] - lowest + buckets) / buckets);
+        long[] bounds = new long[buckets + 1];
+        for (int i = 0; i <= buckets; i++) {
+            bounds[i] = lowest + i * width;
+        }
+        return histogram(bounds);
+    }
+
+    /**
+     * Method to count salaries into buckets between the given bounds. Salaries below the first or
+     * at or above the last bound are not counted.
+     *
+     * @param bounds ascending bucket bounds; each bucket includes its lower and excludes its upper bound.
+     * @return one bucket per pair of consecutive bounds.
+     */
+    public List<SalaryHistogramBucket> histogram(long[] bounds) {
+        List<SalaryHistogramBucket> histogram = new ArrayList<>(bounds.length - 1);
+        for (int i = 0; i + 1 < bounds.length; i++) {
+            int count = firstIndexAtLeast(bounds[i + 1]) - firstIndexAtLeast(bounds[i]);
+            histogram.add(new SalaryHistogramBucket(bounds[i], bounds[i + 1], count));
+        }
+        return histogram;
+    }
+
+    /**
+     * Method to retrieve the salary statistics of every title, ordered by title.
+     *
+     * @return one entry per title held by at least one salaried employee.
+     */
+    public List<SalaryStatistics> byTitle() {
+        List<String> titles = columns.titles();
+        List<SalaryStatistics> statistics = new ArrayList<>();
+        for (int code = 0; code < titles.size(); code++) {
+            if (byTitle.counts[code] > 0) {
+                statistics.add(byTitle.statistics(code, titles.get(code)));
+            }
+        }
+        statistics.sort((left, right) -> left.getGroup().compareTo(right.getGroup()));
+        return statistics;
+    }
+
+    /**
+     * Method to retrieve the salary statistics of consecutive age bands, e.g. 20-29, 30-39 for a
+     * width of 10. Bands without salaried employees are left out.
+     *
+     * @param width the number of ages in a band.
+     * @return one entry per band, youngest first.
+     */
+    public List<SalaryStatistics> byAgeBand(int width) {
+        List<SalaryStatistics> statistics = new ArrayList<>();
+        for (int bandStart = 0; bandStart < byAge.counts.length; bandStart += width) {
+            int bandEnd = Math.min(bandStart + width, byAge.counts.length);
+            Groups band = new Groups(1);
+            for (int age = bandStart; age < bandEnd; age++) {
+                band.merge(0, byAge, age);
+            }
+            if (band.counts[0] > 0) {
+                statistics.add(band.statistics(0, bandStart + "-" + (bandStart + width - 1)));
+            }
+        }
+        return statistics;
+    }
+
+    private int firstIndexAtLeast(long salary) {
+        int low = 0;
+        int high = sortedSalaries.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (sortedSalaries[middle] < salary) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /*
+     * Count, sum, minimum and maximum salary per group, indexed by group (title code or age).
+     */
+    private static final class Groups {
+
+        private int[] counts;
+        private long[] sums;
+        private int[] minimums;
+        private int[] maximums;
+
+        private Groups(int size) {
+            counts = new int[size];
+            sums = new long[size];
+            minimums = new int[size];
+            maximums = new int[size];
+        }
+
+        private void add(int group, int salary) {
+            ensureCapacity(group + 1);
+            minimums[group] = counts[group] == 0 ? salary : Math.min(minimums[group], salary);
+            maximums[group] = counts[group] == 0 ? salary : Math.max(maximums[group], salary);
+            counts[group]++;
+            sums[group] += salary;
+        }
+
+        private void merge(int group, Groups other, int otherGroup) {
+            if (otherGroup >= other.counts.length || other.counts[otherGroup] == 0) {
+                return;
+            }
+            ensureCapacity(group + 1);
+            minimums[group] = counts[group] == 0
+                    ? other.minimums[otherGroup]
+                    : Math.min(minimums[group], other.minimums[otherGroup]);
+            maximums[group] = counts[group] == 0
+                    ? other.maximums[otherGroup]
+                    : Math.max(maximums[group], other.maximums[otherGroup]);
+            counts[group] += other.counts[otherGroup];
+            sums[group] += other.sums[otherGroup];
+        }
+
+        private void mergeAll(Groups other) {
+            for (int group = 0; group < other.counts.length; group++) {
+                merge(group, other, group);
+            }
+        }
+
+        private void ensureCapacity(int size) {
+            if (size > counts.length) {
+                counts = Arrays.copyOf(counts, size);
+                sums = Arrays.copyOf(sums, size);
+                minimums = Arrays.copyOf(minimums, size);
+                maximums = Arrays.copyOf(maximums, size);
+            }
+        }
+
+        private SalaryStatistics statistics(int group, String name) {
+            return new SalaryStatistics(name, counts[group], (double) sums[group] / counts[group],
+                    minimums[group], maximums[group]);
+        }
+    }
+
+    private static final class Accumulator {
+
+        private final Groups byTitle;
+        private final Groups byAge = new Groups(0);
+        private int[] salaries = new int[16];
+        private int salaryCount;
+
+        private Accumulator(int titleCount) {
+            byTitle = new Groups(titleCount);
+        }
+
+        private void add(ColumnarRoster columns, int row) {
+            int salary = columns.salary(row);
+            if (salary == ColumnarRoster.MISSING) {
+                return;
+            }
+            if (salaryCount == salaries.length) {
+                salaries = Arrays.copyOf(salaries, salaryCount * 2);
+            }
+            salaries[salaryCount++] = salary;
+            if (columns.titleCode(row) >= 0) {
+                byTitle.add(columns.titleCode(row), salary);
+            }
+            if (columns.age(row) >= 0 && columns.age(row) <= MAX_AGE) {
+                byAge.add(columns.age(row), salary);
+            }
+        }
+
+        private void merge(Accumulator other) {
+            byTitle.mergeAll(other.byTitle);
+            byAge.mergeAll(other.byAge);
+            if (salaryCount + other.salaryCount > salaries.length) {
+                salaries = Arrays.copyOf(salaries, salaryCount + other.salaryCount);
+            }
+            System.arraycopy(other.salaries, 0, salaries, salaryCount, other.salaryCount);
+            salaryCount += other.salaryCount;
+        }
+    }
+}
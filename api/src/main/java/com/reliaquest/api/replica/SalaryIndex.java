@@ -0,0 +1,59 @@
+package com.reliaquest.api.replica;
+
+import com.reliaquest.api.models.Employee;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Employees ordered by salary (highest first), maintained incrementally.
+ * Adds and removals are O(log n); the highest salary is read from the head of the set
+ * and the top k earners are the first k entries, so no write ever triggers a re-sort.
+ */
+class SalaryIndex {
+
+    private static final Comparator<Employee> HIGHEST_SALARY_FIRST = Comparator
+            .comparing(Employee::getSalary, Comparator.reverseOrder())
+            .thenComparing(Employee::getId);
+
+    private final ConcurrentSkipListSet<Employee> employees = new ConcurrentSkipListSet<>(HIGHEST_SALARY_FIRST);
+
+    SalaryIndex() {
+    }
+
+    SalaryIndex(Collection<Employee> roster) {
+        roster.forEach(this::add);
+    }
+
+    void add(Employee employee) {
+        if (isIndexable(employee)) {
+            employees.add(employee);
+        }
+    }
+
+    void remove(Employee employee) {
+        if (isIndexable(employee)) {
+            employees.remove(employee);
+        }
+    }
+
+    Optional<Integer> highestSalary() {
+        return employees.stream()
+                .findFirst()
+                .map(Employee::getSalary);
+    }
+
+    List<Employee> topEarners(int limit) {
+        return employees.stream()
+                .limit(limit)
+                .toList();
+    }
+
+    private boolean isIndexable(Employee employee) {
+        return Objects.nonNull(employee.getSalary()) && Objects.nonNull(employee.getId());
+    }
+}
@@ -0,0 +1,26 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.models.Employee;
+import com.reliaquest.api.models.request.CreateEmployeeRequest;
+import com.reliaquest.api.models.response.BatchResponse;
+
+import java.util.List;
+
+public interface IEmployeeBatchService {
+
+    /**
+     * Method to create several employees in one request.
+     *
+     * @param requests the employees to create.
+     * @return one result per request, in request order.
+     */
+    BatchResponse<Employee> createEmployees(List<CreateEmployeeRequest> requests);
+
+    /**
+     * Method to delete several employees in one request.
+     *
+     * @param ids the unique ids of the employees to delete.
+     * @return one result per id, in request order.
+     */
+    BatchResponse<String> deleteEmployees(List<String> ids);
+}
@@ -2,12 +2,34 @@ package com.reliaquest.api.service;
 
 import com.reliaquest.api.models.request.CreateEmployeeRequest;
 import com.reliaquest.api.models.Employee;
+import com.reliaquest.api.models.response.EmployeePage;
+import com.reliaquest.api.replica.SalaryAnalytics;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface IEmployeeService {
     List<Employee> getAllEmployees();
 
+    /**
+     * Method to stream all employees one by one, without materializing the roster as a list.
+     *
+     * @return a stream over all employees.
+     */
+    Stream<Employee> streamAllEmployees();
+
+    /**
+     * Method to retrieve one page of employees in id order.
+     *
+     * @param after the {@code next} cursor of the previous page, or null for the first page.
+     * @param limit the maximum number of employees on the page.
+     * @return the page, with the cursor of the following page if there are more employees.
+     */
+    EmployeePage getEmployeesPage(UUID after, int limit);
+
     List<Employee> getEmployeesByNameSearch(String searchString);
 
     Employee getEmployeeById(String id);
@@ -16,7 +38,21 @@ public interface IEmployeeService {
 
     List<String> getTopTenHighestEarningEmployeeNames();
 
+    /**
+     * Method to retrieve the salary statistics of all employees, computed once per roster change.
+     *
+     * @return the salary statistics of the current roster.
+     */
+    SalaryAnalytics getSalaryAnalytics();
+
     Employee createEmployee(CreateEmployeeRequest createEmployeeRequest);
 
     String deleteEmployeeById(String id);
+
+    /**
+     * Method to retrieve how old the employee data served by the read operations is.
+     *
+     * @return the time since the data was last confirmed against the upstream, or empty if unknown.
+     */
+    Optional<Duration> getRosterAge();
 }
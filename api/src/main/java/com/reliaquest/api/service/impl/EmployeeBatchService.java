@@ -0,0 +1,231 @@
+package com.reliaquest.api.service.impl;
+
+import com.reliaquest.api.configuration.EmployeeBatchProperties;
+import com.reliaquest.api.constants.ErrorConstants;
+import com.reliaquest.api.exception.BatchValidationException;
+import com.reliaquest.api.exception.EmployeeException;
+import com.reliaquest.api.exception.UpstreamThrottledException;
+import com.reliaquest.api.models.Employee;
+import com.reliaquest.api.models.request.CreateEmployeeRequest;
+import com.reliaquest.api.models.response.BatchItemResult;
+import com.reliaquest.api.models.response.BatchResponse;
+import com.reliaquest.api.service.IEmployeeBatchService;
+import com.reliaquest.api.service.IEmployeeService;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+/**
+ * Runs batches of creates and deletes through {@link IEmployeeService}, so every item gets the same
+ * replica and cache maintenance as a single call. A batch is validated as a whole before anything is
+ * sent. Items then run on a small shared pool; the upstream rate limiter decides when each call may
+ * go out, and items it turns away are retried once the window is expected to reopen, for as long as
+ * the batch's time budget lasts.
+ * <p>
+ * The request thread waits for the whole batch, so the budget is capped at {@link #MAX_DURATION},
+ * well below common client and proxy timeouts. Each batch queues at most {@code parallelism} tasks
+ * on the pool; each runs one item and then queues up again, so concurrent batches take turns
+ * instead of a large batch holding up the ones after it.
+ */
+@Service
+@Slf4j
+public class EmployeeBatchService implements IEmployeeBatchService {
+
+    static final Duration MAX_DURATION = Duration.ofMinutes(1);
+
+    private final IEmployeeService employeeService;
+
+    private final Validator validator;
+
+    private final EmployeeBatchProperties properties;
+
+    private final ExecutorService executor;
+
+    public EmployeeBatchService(final IEmployeeService employeeService,
+                                final Validator validator,
+                                final EmployeeBatchProperties properties) {
+        if (properties.getMaxDuration().compareTo(MAX_DURATION) > 0) {
+            throw new IllegalArgumentException(String.format(
+                    "employee.batch.max-duration of %s exceeds the maximum of %s", properties.getMaxDuration(), MAX_DURATION));
+        }
+        this.employeeService = employeeService;
+        this.validator = validator;
+        this.properties = properties;
+        this.executor = Executors.newFixedThreadPool(properties.getParallelism(), new CustomizableThreadFactory("employee-batch-"));
+    }
+
+    @Override
+    public BatchResponse<Employee> createEmployees(List<CreateEmployeeRequest> requests) {
+        log.debug("[EmployeeBatchService] :: Creating {} Employees", requests == null ? 0 : requests.size());
+        validateSize(requests);
+        List<String> errors = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            int index = i;
+            if (requests.get(i) == null) {
+                errors.add(String.format(ErrorConstants.NULL_BATCH_ITEM, index));
+                continue;
+            }
+            validator.validate(requests.get(i))
+                    .stream()
+                    .sorted(Comparator.comparing((ConstraintViolation<CreateEmployeeRequest> violation) -> violation.getPropertyPath().toString()))
+                    .forEach(violation -> errors.add(String.format(ErrorConstants.BATCH_ITEM_ERROR, index, violation.getMessage())));
+        }
+        rejectIfInvalid(errors);
+        return run(requests, employeeService::createEmployee, HttpStatus.CREATED);
+    }
+
+    @Override
+    public BatchResponse<String> deleteEmployees(List<String> ids) {
+        log.debug("[EmployeeBatchService] :: Deleting {} Employees", ids == null ? 0 : ids.size());
+        validateSize(ids);
+        List<String> errors = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        for (int i = 0; i < ids.size(); i++) {
+            String id = ids.get(i);
+            if (id == null || id.isBlank()) {
+                errors.add(String.format(ErrorConstants.BLANK_BATCH_ID, i));
+            } else if (!seen.add(id)) {
+                errors.add(String.format(ErrorConstants.DUPLICATE_BATCH_ID, i, id));
+            }
+        }
+        rejectIfInvalid(errors);
+        return run(ids, id -> {
+            employeeService.deleteEmployeeById(id);
+            return id;
+        }, HttpStatus.OK);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void validateSize(List<?> items) {
+        if (items == null || items.isEmpty() || items.size() > properties.getMaxSize()) {
+            throw new BatchValidationException(List.of(String.format(ErrorConstants.INVALID_BATCH_SIZE, properties.getMaxSize())));
+        }
+    }
+
+    private void rejectIfInvalid(List<String> errors) {
+        if (!errors.isEmpty()) {
+            throw new BatchValidationException(errors);
+        }
+    }
+
+    private <I, T> BatchResponse<T> run(List<I> items, Function<I, T> operation, HttpStatus successStatus) {
+        long deadline = System.nanoTime() + properties.getMaxDuration().toNanos();
+        AtomicReferenceArray<BatchItemResult<T>> results = new AtomicReferenceArray<>(items.size());
+        AtomicInteger nextIndex = new AtomicInteger();
+        AtomicInteger remaining = new AtomicInteger(items.size());
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        Runnable step = new Runnable() {
+            @Override
+            public void run() {
+                int index = nextIndex.getAndIncrement();
+                if (index >= items.size()) {
+                    return;
+                }
+                results.set(index, execute(index, items.get(index), operation, successStatus, deadline));
+                if (remaining.decrementAndGet() == 0) {
+                    done.complete(null);
+                } else if (nextIndex.get() < items.size()) {
+                    // queue up behind the other batches instead of keeping the thread for this one
+                    submit(this, done);
+                }
+            }
+        };
+        for (int i = 0; i < Math.min(properties.getParallelism(), items.size()); i++) {
+            submit(step, done);
+        }
+        done.join();
+        return BatchResponse.of(IntStream.range(0, items.size()).mapToObj(results::get).toList());
+    }
+
+    private void submit(Runnable step, CompletableFuture<Void> done) {
+        try {
+            executor.execute(step);
+        } catch (RejectedExecutionException e) {
+            done.completeExceptionally(e);
+        }
+    }
+
+    private <I, T> BatchItemResult<T> execute(int index, I item, Function<I, T> operation, HttpStatus successStatus, long deadline) {
+        while (true) {
+            if (System.nanoTime() >= deadline) {
+                return failure(index, HttpStatus.TOO_MANY_REQUESTS, ErrorConstants.BATCH_TIME_BUDGET_EXHAUSTED);
+            }
+            try {
+                return new BatchItemResult<>(index, successStatus.value(), operation.apply(item), null);
+            } catch (UpstreamThrottledException e) {
+                if (!pause(e.getRetryAfter(), deadline)) {
+                    return failure(index, HttpStatus.TOO_MANY_REQUESTS, ErrorConstants.BATCH_TIME_BUDGET_EXHAUSTED);
+                }
+            } catch (RuntimeException e) {
+                HttpStatusCode status = statusOf(e);
+                if (status.value() != HttpStatus.TOO_MANY_REQUESTS.value()) {
+                    log.debug("[EmployeeBatchService] :: Batch item {} failed with {}: {}", index, status, e.getMessage());
+                    return failure(index, status, e.getMessage());
+                }
+                if (!pause(properties.getThrottleBackoff(), deadline)) {
+                    return failure(index, status, ErrorConstants.TOO_MANY_REQUESTS);
+                }
+            }
+        }
+    }
+
+    /*
+     * Waits before the next attempt; returns false if the batch's time budget ends first.
+     */
+    private boolean pause(Duration wait, long deadline) {
+        long waitNanos = Math.max(wait.toNanos(), Duration.ofMillis(100).toNanos());
+        if (System.nanoTime() + waitNanos >= deadline) {
+            return false;
+        }
+        try {
+            Thread.sleep(waitNanos / 1_000_000, (int) (waitNanos % 1_000_000));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private HttpStatusCode statusOf(RuntimeException e) {
+        if (e instanceof EmployeeException employeeException && employeeException.getHttpStatusCode() != null) {
+            return employeeException.getHttpStatusCode();
+        }
+        if (e instanceof HttpStatusCodeException statusCodeException) {
+            return statusCodeException.getStatusCode();
+        }
+        if (e instanceof ResourceAccessException) {
+            return HttpStatus.SERVICE_UNAVAILABLE;
+        }
+        return HttpStatus.INTERNAL_SERVER_ERROR;
+    }
+
+    private <T> BatchItemResult<T> failure(int index, HttpStatusCode status, String message) {
+        return new BatchItemResult<>(index, status.value(), null, message);
+    }
+}
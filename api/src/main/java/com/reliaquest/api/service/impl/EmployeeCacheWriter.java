@@ -0,0 +1,207 @@
+package com.reliaquest.api.service.impl;
+
+import com.reliaquest.api.constants.APIConstants;
+import com.reliaquest.api.models.Employee;
+import com.reliaquest.api.replica.EmployeeReplica;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiFunction;
+
+/**
+ * Write-through maintenance of the caches derived from the roster. A create or delete is applied to
+ * the cached views it affects (by-id lookups, name searches, highest salary and top earners) instead
+ * of evicting them, so writes don't collapse the hit ratio. The full roster is the exception: patching
+ * it costs a scan and a copy of every employee per write, more than the replica takes to rebuild it on
+ * the next read, so it is evicted instead.
+ * <p>
+ * Entries are patched through the caches' native concurrent maps, so each patch is atomic per
+ * entry and entries that are not cached stay uncached. When a cache doesn't expose a map view,
+ * every derived cache is cleared instead. A created employee that a cached view already holds is
+ * consistent with it: the view was cached after the replica had been updated.
+ * <p>
+ * A view computed from the replica before a write but stored by {@code @Cacheable} after the writer
+ * ran misses that write. Nothing guards against this: such an entry lives until its
+ * {@code expireAfterWrite} (see {@code employee.cache.specs}) or until the next roster change clears it.
+ */
+@Slf4j
+class EmployeeCacheWriter {
+
+    private static final List<String> DERIVED_CACHES = List.of(
+            APIConstants.GET_ALL_EMPLOYEES_CACHE_KEY,
+            APIConstants.GET_ALL_EMPLOYEES_BY_NAME_CACHE_KEY,
+            APIConstants.GET_EMPLOYEE_BY_ID_CACHE_KEY,
+            APIConstants.GET_HIGHEST_SALARY_CACHE_KEY,
+            APIConstants.GET_TOP_TEN_HIGHEST_SALARY_NAME_KEY);
+
+    private final CacheManager cacheManager;
+
+    EmployeeCacheWriter(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    /**
+     * Method to apply a newly created employee to the derived caches. Must be called after the
+     * replica has been updated, since the salary rankings are re-read from its indexes.
+     *
+     * @param created the created employee.
+     * @param replica the replica the rankings are read from.
+     */
+    void employeeCreated(Employee created, EmployeeReplica replica) {
+        boolean patched = patch(APIConstants.GET_ALL_EMPLOYEES_BY_NAME_CACHE_KEY, (key, matches) -> nameContains(created, key)
+                ? withIfAbsent(matches, created)
+                : matches);
+        if (!patched) {
+            clearAll("create of " + created.getId());
+            return;
+        }
+        evictRoster();
+        Cache byId = cacheManager.getCache(APIConstants.GET_EMPLOYEE_BY_ID_CACHE_KEY);
+        if (byId != null) {
+            byId.put(created.getId().toString(), created);
+        }
+        updateRankings(replica);
+    }
+
+    /**
+     * Method to apply a deleted employee to the derived caches. Must be called after the replica
+     * has been updated, since the salary rankings are re-read from its indexes.
+     *
+     * @param requestedId the id the delete was requested with, as used for the by-id cache key.
+     * @param deleted     the deleted employee.
+     * @param replica     the replica the rankings are read from.
+     */
+    void employeeDeleted(String requestedId, Employee deleted, EmployeeReplica replica) {
+        boolean patched = patch(APIConstants.GET_ALL_EMPLOYEES_BY_NAME_CACHE_KEY, (key, matches) -> {
+            List<Employee> employees = employees(matches);
+            int index = indexOf(employees, deleted.getId());
+            return index < 0 ? matches : without(employees, index);
+        });
+        if (!patched) {
+            clearAll("delete of " + deleted.getId());
+            return;
+        }
+        evictRoster();
+        Cache byId = cacheManager.getCache(APIConstants.GET_EMPLOYEE_BY_ID_CACHE_KEY);
+        if (byId != null) {
+            byId.evict(requestedId);
+            byId.evict(deleted.getId().toString());
+        }
+        updateRankings(replica);
+    }
+
+    /**
+     * Method to empty every derived cache, e.g. after a full reload changed the roster.
+     */
+    void clearAll() {
+        DERIVED_CACHES.stream()
+                .map(cacheManager::getCache)
+                .filter(Objects::nonNull)
+                .forEach(Cache::clear);
+    }
+
+    private void clearAll(String reason) {
+        log.warn("[EmployeeCacheWriter] :: Cached views can't be patched for {}, clearing all derived caches", reason);
+        clearAll();
+    }
+
+    private void evictRoster() {
+        Cache roster = cacheManager.getCache(APIConstants.GET_ALL_EMPLOYEES_CACHE_KEY);
+        if (roster != null) {
+            roster.clear();
+        }
+    }
+
+    /*
+     * The rankings come from the replica's salary index in O(log n), which is cheaper and safer than
+     * re-deriving them from the cached values.
+     */
+    private void updateRankings(EmployeeReplica replica) {
+        patch(APIConstants.GET_HIGHEST_SALARY_CACHE_KEY, (key, highest) -> replica.findHighestSalary().orElse(null));
+        patch(APIConstants.GET_TOP_TEN_HIGHEST_SALARY_NAME_KEY, (key, names) -> replica
+                .findTopEarners(APIConstants.TOP_EARNING_EMPLOYEES_LIMIT)
+                .stream()
+                .map(Employee::getName)
+                .toList());
+    }
+
+    /*
+     * Applies the patch to every cached entry of the cache; returning null drops the entry.
+     * Returns false if the cache can't be patched in place.
+     */
+    private boolean patch(String cacheName, BiFunction<Object, Object, Object> patch) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            return true;
+        }
+        ConcurrentMap<Object, Object> entries = nativeMap(cache);
+        if (entries == null) {
+            return false;
+        }
+        for (Object key : entries.keySet()) {
+            entries.computeIfPresent(key, patch);
+        }
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private ConcurrentMap<Object, Object> nativeMap(Cache cache) {
+        Object nativeCache = cache.getNativeCache();
+        if (nativeCache instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> caffeineCache) {
+            return (ConcurrentMap<Object, Object>) caffeineCache.asMap();
+        }
+        if (nativeCache instanceof ConcurrentMap<?, ?> map) {
+            return (ConcurrentMap<Object, Object>) map;
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Employee> employees(Object cached) {
+        return (List<Employee>) cached;
+    }
+
+    private static int indexOf(List<Employee> employees, UUID id) {
+        for (int i = 0; i < employees.size(); i++) {
+            if (Objects.equals(employees.get(i).getId(), id)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /*
+     * Name-search views are small, so they are scanned and copied. A view cached after the replica
+     * was updated already holds the employee and is kept as is.
+     */
+    private static Object withIfAbsent(Object cached, Employee added) {
+        List<Employee> employees = employees(cached);
+        return indexOf(employees, added.getId()) >= 0 ? cached : with(employees, added);
+    }
+
+    private static List<Employee> with(List<Employee> employees, Employee added) {
+        List<Employee> patched = new ArrayList<>(employees.size() + 1);
+        patched.addAll(employees);
+        patched.add(added);
+        return List.copyOf(patched);
+    }
+
+    private static List<Employee> without(List<Employee> employees, int index) {
+        List<Employee> patched = new ArrayList<>(employees);
+        patched.remove(index);
+        return List.copyOf(patched);
+    }
+
+    private static boolean nameContains(Employee employee, Object searchString) {
+        return employee.getName() != null
+                && searchString instanceof String query
+                && employee.getName().toLowerCase(Locale.ROOT).contains(query.toLowerCase(Locale.ROOT));
+    }
+}
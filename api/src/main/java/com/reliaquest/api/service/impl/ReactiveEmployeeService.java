@@ -0,0 +1,381 @@
+package com.reliaquest.api.service.impl;
+
+import com.reliaquest.api.configuration.EmployeeReplicaProperties;
+import com.reliaquest.api.configuration.UpstreamRateLimitProperties;
+import com.reliaquest.api.constants.APIConstants;
+import com.reliaquest.api.constants.ErrorConstants;
+import com.reliaquest.api.exception.EmployeeException;
+import com.reliaquest.api.exception.UpstreamThrottledException;
+import com.reliaquest.api.models.Employee;
+import com.reliaquest.api.models.request.CreateEmployeeRequest;
+import com.reliaquest.api.models.request.DeleteEmployeeRequest;
+import com.reliaquest.api.models.response.APIResponse;
+import com.reliaquest.api.models.response.EmployeePage;
+import com.reliaquest.api.replica.EmployeeReplica;
+import com.reliaquest.api.replica.SalaryAnalytics;
+import com.reliaquest.api.service.IEmployeeService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+/**
+ * Non-blocking implementation of {@link IEmployeeService} on top of {@link WebClient}, enabled with
+ * {@code employee.service.mode=reactive}. Reads are answered from the shared {@link EmployeeReplica};
+ * upstream calls (replica loads, by-id misses, creates and deletes) never hold a request thread while
+ * in flight when used through the {@code *Async} methods. The blocking methods required by
+ * {@link IEmployeeService} wait on the async ones so the fixed controller contract keeps working.
+ */
+@Service
+@ConditionalOnProperty(name = "employee.service.mode", havingValue = "reactive")
+@Slf4j
+public class ReactiveEmployeeService implements IEmployeeService {
+
+    private static final String ROSTER_URI = "";
+
+    private static final String ROSTER_FIRST_PAGE_URI = "?limit={limit}";
+
+    private static final String ROSTER_NEXT_PAGE_URI = "?limit={limit}&after={after}";
+
+    private static final String EMPLOYEE_BY_ID_URI = "/{id}";
+
+    private final WebClient employeeWebClient;
+
+    private final EmployeeReplica employeeReplica;
+
+    private final EmployeeReplicaProperties replicaProperties;
+
+    private final UpstreamRateLimitProperties rateLimitProperties;
+
+    private final Map<String, Mono<?>> inFlightFetches = new ConcurrentHashMap<>();
+
+    private final AtomicReference<RosterLoadProgress> throttledLoad = new AtomicReference<>();
+
+    public ReactiveEmployeeService(final WebClient employeeWebClient,
+                                   final EmployeeReplica employeeReplica,
+                                   final EmployeeReplicaProperties replicaProperties,
+                                   final UpstreamRateLimitProperties rateLimitProperties) {
+        this.employeeWebClient = employeeWebClient;
+        this.employeeReplica = employeeReplica;
+        this.replicaProperties = replicaProperties;
+        this.rateLimitProperties = rateLimitProperties;
+    }
+
+    @Override
+    public List<Employee> getAllEmployees() {
+        return getAllEmployeesAsync().block();
+    }
+
+    @Override
+    public Stream<Employee> streamAllEmployees() {
+        return streamAllEmployeesAsync().toStream();
+    }
+
+    @Override
+    public List<Employee> getEmployeesByNameSearch(String searchString) {
+        return getEmployeesByNameSearchAsync(searchString).block();
+    }
+
+    @Override
+    public Employee getEmployeeById(String id) {
+        return getEmployeeByIdAsync(id).block();
+    }
+
+    @Override
+    public Integer getHighestSalaryOfEmployees() {
+        return getHighestSalaryOfEmployeesAsync().block();
+    }
+
+    @Override
+    public List<String> getTopTenHighestEarningEmployeeNames() {
+        return getTopTenHighestEarningEmployeeNamesAsync().block();
+    }
+
+    @Override
+    public SalaryAnalytics getSalaryAnalytics() {
+        return getSalaryAnalyticsAsync().block();
+    }
+
+    @Override
+    public Employee createEmployee(CreateEmployeeRequest createEmployeeRequest) {
+        return createEmployeeAsync(createEmployeeRequest).block();
+    }
+
+    @Override
+    public EmployeePage getEmployeesPage(UUID after, int limit) {
+        return getEmployeesPageAsync(after, limit).block();
+    }
+
+    @Override
+    public String deleteEmployeeById(String id) {
+        return deleteEmployeeByIdAsync(id).block();
+    }
+
+    @Override
+    public Optional<Duration> getRosterAge() {
+        return employeeReplica.getAge();
+    }
+
+    public Mono<List<Employee>> getAllEmployeesAsync() {
+        log.debug("[ReactiveEmployeeService] :: Fetching All Employees");
+        return replica().map(EmployeeReplica::findAll);
+    }
+
+    public Flux<Employee> streamAllEmployeesAsync() {
+        log.debug("[ReactiveEmployeeService] :: Streaming All Employees");
+        return replica().flatMapMany(replica -> Flux.fromStream(replica::stream));
+    }
+
+    public Mono<EmployeePage> getEmployeesPageAsync(UUID after, int limit) {
+        log.debug("[ReactiveEmployeeService] :: Fetching Page of {} Employees after '{}'", limit, after);
+        return replica().map(replica -> replica.findPage(after, limit));
+    }
+
+    public Mono<List<Employee>> getEmployeesByNameSearchAsync(String searchString) {
+        log.debug("[ReactiveEmployeeService] :: Searching Employees by Name '{}'", searchString);
+        return replica().map(replica -> replica.findByNameContaining(searchString));
+    }
+
+    public Mono<Employee> getEmployeeByIdAsync(String id) {
+        log.debug("[ReactiveEmployeeService] :: Fetching Employee by ID '{}'", id);
+        Optional<UUID> uuid = parseId(id);
+        Mono<Employee> replicated = uuid.isPresent()
+                ? replica().flatMap(replica -> Mono.justOrEmpty(replica.findById(uuid.get())))
+                : Mono.empty();
+        return replicated.switchIfEmpty(Mono.defer(() -> this.<Employee>fetchData(EMPLOYEE_BY_ID_URI, new ParameterizedTypeReference<>() {
+                }, "Employee not found with ID: " + id, id)
+                .doOnNext(employeeReplica::put)));
+    }
+
+    public Mono<Integer> getHighestSalaryOfEmployeesAsync() {
+        log.debug("[ReactiveEmployeeService] :: Fetching Highest Salary of Employees");
+        return replica().map(replica -> replica.findHighestSalary()
+                .orElseThrow(() -> new EmployeeException(ErrorConstants.NO_EMPLOYEE_FOR_CALCULATION, HttpStatusCode.valueOf(404))));
+    }
+
+    public Mono<List<String>> getTopTenHighestEarningEmployeeNamesAsync() {
+        log.debug("[ReactiveEmployeeService] :: Fetching Top Ten Highest Salaried Employees");
+        return replica().map(replica -> replica.findTopEarners(APIConstants.TOP_EARNING_EMPLOYEES_LIMIT)
+                .stream()
+                .map(Employee::getName)
+                .toList());
+    }
+
+    public Mono<SalaryAnalytics> getSalaryAnalyticsAsync() {
+        log.debug("[ReactiveEmployeeService] :: Fetching Salary Analytics");
+        return replica().map(EmployeeReplica::salaryAnalytics)
+                .filter(salaryAnalytics -> salaryAnalytics.count() > 0)
+                .switchIfEmpty(Mono.error(() -> new EmployeeException(ErrorConstants.NO_EMPLOYEE_FOR_SALARY_ANALYTICS, HttpStatusCode.valueOf(404))));
+    }
+
+    public Mono<Employee> createEmployeeAsync(CreateEmployeeRequest createEmployeeRequest) {
+        log.debug("[ReactiveEmployeeService] :: Creating New Employee");
+        return employeeWebClient.post()
+                .uri(ROSTER_URI)
+                .bodyValue(createEmployeeRequest)
+                .retrieve()
+                .onStatus(HttpStatusCode::isError, this::toEmployeeException)
+                .bodyToMono(new ParameterizedTypeReference<APIResponse<Employee>>() {
+                })
+                .mapNotNull(APIResponse::getData)
+                .switchIfEmpty(Mono.error(() -> new EmployeeException(ErrorConstants.FAILED_TO_CREATE_EMPLOYEE)))
+                .transform(this::withUpstreamErrorHandling)
+                .doOnNext(employeeReplica::put);
+    }
+
+    public Mono<String> deleteEmployeeByIdAsync(String id) {
+        log.debug("[ReactiveEmployeeService] :: Deleting Employee by ID '{}'", id);
+        // only the name is needed, so the replica is used as it stands, without waiting for a load
+        Mono<Employee> employeeById = Mono.justOrEmpty(parseId(id).flatMap(employeeReplica::findById))
+                .switchIfEmpty(Mono.defer(() -> fetchData(EMPLOYEE_BY_ID_URI, new ParameterizedTypeReference<>() {
+                }, "Employee not found with ID: " + id, id)));
+        return employeeById
+                .flatMap(employee -> employeeWebClient.method(HttpMethod.DELETE)
+                        .uri(ROSTER_URI)
+                        .bodyValue(DeleteEmployeeRequest.from(employee.getName()))
+                        .retrieve()
+                        .onStatus(HttpStatusCode::isError, this::toEmployeeException)
+                        .toBodilessEntity()
+                        .transform(this::withUpstreamErrorHandling)
+                        .doOnNext(ignored -> employeeReplica.remove(employee.getId())))
+                .then(Mono.empty());
+    }
+
+    /**
+     * Method to re-synchronize the local replica with the upstream roster in the background.
+     *
+     * @return true if the upstream roster differed from the replica.
+     */
+    @Scheduled(initialDelayString = "${employee.replica.initial-delay-ms:0}",
+            fixedDelayString = "${employee.replica.refresh-interval-ms:30000}")
+    public boolean refreshReplica() {
+        log.debug("[ReactiveEmployeeService] :: Refreshing Employee Replica");
+        return loadRoster()
+                .onErrorResume(e -> {
+                    log.warn("[ReactiveEmployeeService] :: Failed to refresh Employee Replica, serving last known roster: {}", e.getMessage());
+                    return Mono.just(false);
+                })
+                .blockOptional()
+                .orElse(false);
+    }
+
+    private Mono<EmployeeReplica> replica() {
+        if (!employeeReplica.isOlderThan(replicaProperties.getMaxStaleness())) {
+            return Mono.just(employeeReplica);
+        }
+        return loadRoster().thenReturn(employeeReplica);
+    }
+
+    /*
+     * The roster is fetched page by page into one replica load, committed once the last page arrived;
+     * concurrent subscribers share the same load. An upstream without paging answers the first
+     * request with the whole roster and no cursor, which ends the load after one page.
+     * The first page is requested conditionally on the ETag of the last load; as every page carries
+     * the roster's version as its ETag, a 304 confirms the whole replica without fetching the rest.
+     * A load throttled part-way keeps its pages and cursor, and the next load carries on from there.
+     */
+    @SuppressWarnings("unchecked")
+    private Mono<Boolean> loadRoster() {
+        return (Mono<Boolean>) inFlightFetches.computeIfAbsent(ROSTER_URI, key -> Mono.defer(() -> {
+                    RosterLoadProgress resumed = throttledLoad.getAndSet(null);
+                    if (resumed != null && resumed.isResumable(replicaProperties.getMaxStaleness())) {
+                        log.debug("[ReactiveEmployeeService] :: Resuming Employee Roster Load after {} Page(s)", resumed.pages());
+                        return loadPages(resumed, fetchRosterPage(resumed.next(), null));
+                    }
+                    String knownETag = employeeReplica.isInitialized() ? employeeReplica.getUpstreamETag() : null;
+                    RosterLoadProgress progress = new RosterLoadProgress(employeeReplica.startReload());
+                    return fetchRosterPage(null, knownETag)
+                            .flatMap(first -> {
+                                if (first.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+                                    employeeReplica.confirmUnchanged();
+                                    return Mono.just(false);
+                                }
+                                return loadPages(progress, Mono.just(first));
+                            });
+                })
+                .doFinally(signal -> inFlightFetches.remove(key))
+                .cache());
+    }
+
+    private Mono<Boolean> loadPages(RosterLoadProgress progress, Mono<ResponseEntity<APIResponse<List<Employee>>>> firstPage) {
+        return firstPage
+                .expand(page -> page.getBody().getNext() == null
+                        ? Mono.empty()
+                        : fetchRosterPage(page.getBody().getNext(), null))
+                .doOnNext(page -> {
+                    page.getBody().getData().forEach(progress.load());
+                    progress.pageLoaded(page.getHeaders().getETag(), page.getBody().getNext());
+                })
+                .then(Mono.fromCallable(progress::commit))
+                .doOnError(e -> {
+                    if (progress.pages() > 0 && isThrottled(e)) {
+                        log.info("[ReactiveEmployeeService] :: Employee Roster Load throttled after {} Page(s), resuming on the next attempt",
+                                progress.pages());
+                        throttledLoad.set(progress);
+                    }
+                });
+    }
+
+    private Mono<ResponseEntity<APIResponse<List<Employee>>>> fetchRosterPage(String after, String ifNoneMatch) {
+        WebClient.RequestHeadersSpec<?> request = after == null
+                ? employeeWebClient.get().uri(ROSTER_FIRST_PAGE_URI, replicaProperties.getPageSize())
+                : employeeWebClient.get().uri(ROSTER_NEXT_PAGE_URI, replicaProperties.getPageSize(), after);
+        if (ifNoneMatch != null) {
+            request = request.ifNoneMatch(ifNoneMatch);
+        }
+        return request.retrieve()
+                .onStatus(HttpStatusCode::isError, this::toEmployeeException)
+                .toEntity(new ParameterizedTypeReference<APIResponse<List<Employee>>>() {
+                })
+                .filter(page -> page.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)
+                        || (page.getBody() != null && page.getBody().getData() != null))
+                .switchIfEmpty(Mono.error(() -> new EmployeeException("No employees found.")))
+                .transform(this::withUpstreamErrorHandling);
+    }
+
+    /*
+     * Concurrent subscribers fetching the same URI share one upstream exchange and its result.
+     * The URI is passed on as a template so client metrics are tagged per endpoint, not per id.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> Mono<T> fetchData(String uriTemplate, ParameterizedTypeReference<APIResponse<T>> responseType, String errorMessage,
+                                  Object... uriVariables) {
+        String uri = UriComponentsBuilder.fromUriString(uriTemplate).buildAndExpand(uriVariables).toUriString();
+        return (Mono<T>) inFlightFetches.computeIfAbsent(uri, key -> employeeWebClient.get()
+                .uri(uriTemplate, uriVariables)
+                .retrieve()
+                .onStatus(HttpStatusCode::isError, this::toEmployeeException)
+                .bodyToMono(responseType)
+                .mapNotNull(APIResponse::getData)
+                .switchIfEmpty(Mono.error(() -> new EmployeeException(errorMessage)))
+                .transform(this::withUpstreamErrorHandling)
+                .doFinally(signal -> inFlightFetches.remove(key))
+                .cache());
+    }
+
+    private <T> Mono<T> withUpstreamErrorHandling(Mono<T> call) {
+        long retries = Math.max(0, rateLimitProperties.getMaxAttempts() - 1);
+        Duration minBackoff = rateLimitProperties.getRetryJitter().isZero()
+                ? Duration.ofMillis(1)
+                : rateLimitProperties.getRetryJitter();
+        return call
+                .onErrorMap(WebClientRequestException.class,
+                        e -> new EmployeeException(ErrorConstants.UPSTREAM_UNAVAILABLE, HttpStatus.SERVICE_UNAVAILABLE))
+                .retryWhen(Retry.backoff(retries, minBackoff)
+                        .jitter(1.0)
+                        .filter(this::isUpstreamThrottle)
+                        .onRetryExhaustedThrow((spec, signal) -> signal.failure()));
+    }
+
+    private boolean isThrottled(Throwable e) {
+        return e instanceof EmployeeException employeeException
+                && employeeException.getHttpStatusCode() != null
+                && employeeException.getHttpStatusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value();
+    }
+
+    /*
+     * A 429 from the upstream itself is worth retrying; the rate limiter turning a call away is not.
+     */
+    private boolean isUpstreamThrottle(Throwable e) {
+        return isThrottled(e) && !(e instanceof UpstreamThrottledException);
+    }
+
+    private Mono<? extends Throwable> toEmployeeException(ClientResponse response) {
+        HttpStatusCode status = response.statusCode();
+        String message = switch (status.value()) {
+            case 404 -> ErrorConstants.DATA_NOT_FOUND;
+            case 429 -> ErrorConstants.TOO_MANY_REQUESTS;
+            default -> ErrorConstants.UPSTREAM_UNAVAILABLE;
+        };
+        return response.releaseBody().then(Mono.just(new EmployeeException(message, status)));
+    }
+
+    private Optional<UUID> parseId(String id) {
+        try {
+            return Optional.of(UUID.fromString(id));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.reliaquest.api.service.impl;
+
+import com.reliaquest.api.replica.EmployeeReplica;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Progress of a paged roster load: the replica load the pages were streamed into, the cursor of the
+ * next page and the roster version the pages agree on. A load the upstream throttled part-way is kept
+ * and resumed from its cursor by the next attempt, instead of refetching the pages it already holds;
+ * with an upstream that admits only a few requests per window, a roster of more pages than that could
+ * otherwise never be loaded.
+ */
+final class RosterLoadProgress {
+
+    private final EmployeeReplica.RosterLoad load;
+
+    private final long startedAtNanos = System.nanoTime();
+
+    private String next;
+
+    private String rosterETag;
+
+    private int pages;
+
+    RosterLoadProgress(EmployeeReplica.RosterLoad load) {
+        this.load = load;
+    }
+
+    EmployeeReplica.RosterLoad load() {
+        return load;
+    }
+
+    /**
+     * Method to retrieve the cursor of the page to fetch next.
+     *
+     * @return the cursor, or null before the first page and after the last one.
+     */
+    String next() {
+        return next;
+    }
+
+    int pages() {
+        return pages;
+    }
+
+    /**
+     * Method to record a page that was streamed into the load. Pages of different roster versions
+     * leave nothing to revalidate, so the load then commits without an ETag.
+     *
+     * @param eTag the roster version the page was read at.
+     * @param next the cursor of the following page, or null if this was the last one.
+     */
+    void pageLoaded(String eTag, String next) {
+        rosterETag = pages == 0 || Objects.equals(rosterETag, eTag) ? eTag : null;
+        pages++;
+        this.next = next;
+    }
+
+    /**
+     * Method to check whether a throttled load is still worth resuming. Pages loaded long ago would
+     * be published as if they had just been read, so a load older than the staleness bound is dropped.
+     *
+     * @param maxAge the staleness bound of the replica.
+     * @return true if the load has pages left to fetch and started within {@code maxAge}.
+     */
+    boolean isResumable(Duration maxAge) {
+        return pages > 0 && next != null && System.nanoTime() - startedAtNanos <= maxAge.toNanos();
+    }
+
+    boolean commit() {
+        return load.commit(rosterETag);
+    }
+}
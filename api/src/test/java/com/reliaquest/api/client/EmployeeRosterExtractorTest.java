@@ -0,0 +1,72 @@
+package com.reliaquest.api.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.models.Employee;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class EmployeeRosterExtractorTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private final List<Employee> streamed = new ArrayList<>();
+
+    private EmployeeRosterExtractor extractor;
+
+    private Integer extract(String json) throws Exception {
+        extractor = new EmployeeRosterExtractor(objectMapper, streamed::add);
+        return extractor.extractData(new MockClientHttpResponse(json.getBytes(StandardCharsets.UTF_8), HttpStatus.OK));
+    }
+
+    @Test
+    void testStreamsEmployeesInOrder() throws Exception {
+        Integer count = extract("""
+                {"status": "Successfully processed request.", "data": [
+                  {"id": "4a3a170b-22cd-4ac2-aad1-9bb5b34a1507", "employee_name": "Jill Jenkins", "employee_salary": 139082, "employee_age": 48, "employee_title": "Financial Advisor", "employee_email": "jillj@company.com", "unknown": {"nested": [1, 2]}},
+                  null,
+                  {"id": "5255f1a5-f9f7-4be5-829a-134bde088d17", "employee_name": "Bill Bob", "employee_salary": 89750}
+                ]}
+                """);
+
+        assertEquals(2, count);
+        assertEquals(List.of("Jill Jenkins", "Bill Bob"), streamed.stream().map(Employee::getName).toList());
+        assertEquals(139082, streamed.get(0).getSalary());
+        assertEquals("Financial Advisor", streamed.get(0).getTitle());
+    }
+
+    @Test
+    void testKeepsCursorOfNextPage() throws Exception {
+        Integer count = extract("""
+                {"data": [{"id": "4a3a170b-22cd-4ac2-aad1-9bb5b34a1507", "employee_name": "Jill Jenkins"}],
+                 "status": "Successfully processed request.", "next": "4a3a170b-22cd-4ac2-aad1-9bb5b34a1507"}
+                """);
+
+        assertEquals(1, count);
+        assertEquals("4a3a170b-22cd-4ac2-aad1-9bb5b34a1507", extractor.getNext());
+
+        extract("{\"data\": [], \"status\": \"ok\"}");
+        assertNull(extractor.getNext());
+    }
+
+    @Test
+    void testEmptyRoster() throws Exception {
+        assertEquals(0, extract("{\"data\": [], \"status\": \"ok\"}"));
+        assertEquals(0, streamed.size());
+    }
+
+    @Test
+    void testMissingOrNullDataYieldsNull() throws Exception {
+        assertNull(extract("{\"data\": null, \"status\": \"ok\"}"));
+        assertNull(extract("{\"status\": \"ok\"}"));
+        assertNull(extract(""));
+    }
+}
@@ -0,0 +1,83 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.configuration.UpstreamRateLimitProperties;
+import com.reliaquest.api.exception.UpstreamThrottledException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RateLimitingExchangeFilterTest {
+
+    private final ClientRequest request = ClientRequest.create(HttpMethod.GET, URI.create("http://localhost/api/v1/employee")).build();
+
+    private final AtomicInteger exchanges = new AtomicInteger();
+
+    private UpstreamRateLimiter rateLimiter;
+    private RateLimitingExchangeFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        UpstreamRateLimitProperties properties = new UpstreamRateLimitProperties();
+        properties.setInitialLimit(1);
+        properties.setMaxWait(Duration.ZERO);
+        rateLimiter = new UpstreamRateLimiter(properties);
+        filter = new RateLimitingExchangeFilter(rateLimiter);
+    }
+
+    @Test
+    void testRejectedAcquireReleasesNothing() {
+        // the only slot is held, so the filtered call is turned away
+        rateLimiter.acquire();
+
+        Mono<ClientResponse> exchange = filter.filter(request, respondingWith(HttpStatus.OK));
+        assertThrows(UpstreamThrottledException.class, exchange::block);
+
+        assertEquals(0, exchanges.get());
+        assertEquals(1, rateLimiter.getInFlight());
+
+        rateLimiter.onResponse(HttpStatus.OK);
+        assertEquals(0, rateLimiter.getInFlight());
+    }
+
+    @Test
+    void testAdmittedExchangeIsReleasedOnce() {
+        ClientResponse response = filter.filter(request, respondingWith(HttpStatus.OK)).block();
+
+        assertEquals(HttpStatus.OK, response.statusCode());
+        assertEquals(1, exchanges.get());
+        assertEquals(0, rateLimiter.getInFlight());
+    }
+
+    @Test
+    void testFailedExchangeIsReleased() {
+        ExchangeFunction failing = clientRequest -> {
+            exchanges.incrementAndGet();
+            return Mono.error(new IOException("Connection refused"));
+        };
+
+        assertThrows(RuntimeException.class, () -> filter.filter(request, failing).block());
+
+        assertEquals(1, exchanges.get());
+        assertEquals(0, rateLimiter.getInFlight());
+    }
+
+    private ExchangeFunction respondingWith(HttpStatus status) {
+        return clientRequest -> {
+            exchanges.incrementAndGet();
+            return Mono.just(ClientResponse.create(status).build());
+        };
+    }
+}
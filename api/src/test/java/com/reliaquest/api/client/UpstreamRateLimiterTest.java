@@ -0,0 +1,123 @@
+package com.reliaquest.api.client;
+
+import com.reliaquest.api.configuration.UpstreamRateLimitProperties;
+import com.reliaquest.api.exception.UpstreamThrottledException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class UpstreamRateLimiterTest {
+
+    private MutableClock clock;
+    private UpstreamRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        UpstreamRateLimitProperties properties = new UpstreamRateLimitProperties();
+        properties.setInitialLimit(2);
+        properties.setInitialBackoff(Duration.ofSeconds(10));
+        properties.setMaxWait(Duration.ZERO);
+        clock = new MutableClock();
+        rateLimiter = new UpstreamRateLimiter(properties, clock);
+    }
+
+    @Test
+    void testLearnsLimitFromFirstThrottle() {
+        accept(3);
+        throttle();
+
+        assertEquals(3, rateLimiter.getEstimatedLimit());
+        UpstreamThrottledException exception = assertThrows(UpstreamThrottledException.class, rateLimiter::acquire);
+        assertEquals(Duration.ofSeconds(10), exception.getRetryAfter());
+    }
+
+    @Test
+    void testLearnsBackoffWindowFromProbes() {
+        accept(3);
+        throttle();
+
+        clock.advance(Duration.ofSeconds(10));
+        throttle();
+        assertEquals(Duration.ofMillis(12500), rateLimiter.getEstimatedBackoff());
+        assertThrows(UpstreamThrottledException.class, rateLimiter::acquire);
+
+        clock.advance(Duration.ofMillis(2500));
+        accept(1);
+        assertEquals(Duration.ofMillis(11250), rateLimiter.getEstimatedBackoff());
+    }
+
+    @Test
+    void testStopsBeforeTrippingOnceLimitIsKnown() {
+        accept(3);
+        throttle();
+        clock.advance(Duration.ofSeconds(10));
+        accept(1);
+
+        accept(3);
+
+        // accepted 10s after the last acceptance: the window is bisected between 0s and 10s
+        assertThrows(UpstreamThrottledException.class, rateLimiter::acquire);
+        assertEquals(Duration.ofSeconds(5), rateLimiter.currentDelay());
+    }
+
+    @Test
+    void testPublishesThrottlingMetrics() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        rateLimiter.bindTo(registry);
+
+        accept(3);
+        throttle();
+        assertThrows(UpstreamThrottledException.class, rateLimiter::acquire);
+
+        assertEquals(1.0, registry.get("employee.upstream.throttled").functionCounter().count());
+        assertEquals(1.0, registry.get("employee.upstream.rejected").functionCounter().count());
+        assertEquals(3.0, registry.get("employee.upstream.limit.estimate").gauge().value());
+        assertEquals(10.0, registry.get("employee.upstream.backoff.estimate").timeGauge().value(TimeUnit.SECONDS));
+    }
+
+    private void accept(int requests) {
+        for (int i = 0; i < requests; i++) {
+            rateLimiter.acquire();
+            rateLimiter.onResponse(HttpStatus.OK);
+        }
+    }
+
+    private void throttle() {
+        rateLimiter.acquire();
+        rateLimiter.onResponse(HttpStatus.TOO_MANY_REQUESTS);
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant now = Instant.parse("2024-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.reliaquest.api.configuration;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.reliaquest.api.constants.APIConstants;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CacheConfigTest {
+
+    @Test
+    void testCachesAreBoundedAndRecordStats() {
+        EmployeeCacheProperties cacheProperties = new EmployeeCacheProperties();
+        cacheProperties.setSpecs(Map.of(APIConstants.GET_ALL_EMPLOYEES_BY_NAME_CACHE_KEY, "maximumSize=2"));
+
+        CacheManager cacheManager = new CacheConfig().cacheManager(cacheProperties);
+
+        assertTrue(cacheManager.getCacheNames().containsAll(CacheConfig.CACHE_NAMES));
+        assertNull(cacheManager.getCache("UnknownCache"));
+
+        Cache<Object, Object> searchCache = ((CaffeineCache) cacheManager.getCache(APIConstants.GET_ALL_EMPLOYEES_BY_NAME_CACHE_KEY)).getNativeCache();
+        searchCache.put("search", 0);
+        searchCache.getIfPresent("search");
+        searchCache.getIfPresent("missing");
+        for (int i = 1; i <= 10; i++) {
+            searchCache.put("search" + i, i);
+        }
+        searchCache.cleanUp();
+
+        assertTrue(searchCache.estimatedSize() <= 2);
+        assertEquals(1, searchCache.stats().hitCount());
+        assertEquals(1, searchCache.stats().missCount());
+        assertTrue(searchCache.stats().evictionCount() >= 9);
+    }
+
+    @Test
+    void testRefreshAfterWriteSpecIsRejected() {
+        EmployeeCacheProperties cacheProperties = new EmployeeCacheProperties();
+        cacheProperties.setSpecs(Map.of(APIConstants.GET_EMPLOYEE_BY_ID_CACHE_KEY, "maximumSize=10, refreshAfterWrite=1m"));
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> new CacheConfig().cacheManager(cacheProperties));
+
+        assertTrue(exception.getMessage().contains(APIConstants.GET_EMPLOYEE_BY_ID_CACHE_KEY));
+        assertTrue(exception.getMessage().contains("refreshAfterWrite"));
+    }
+
+    @Test
+    void testMalformedSpecNamesTheCache() {
+        EmployeeCacheProperties cacheProperties = new EmployeeCacheProperties();
+        cacheProperties.setDefaultSpec("maximumSize=lots");
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> new CacheConfig().cacheManager(cacheProperties));
+
+        assertTrue(exception.getMessage().contains("maximumSize=lots"));
+    }
+}
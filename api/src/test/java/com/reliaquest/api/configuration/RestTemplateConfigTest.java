@@ -0,0 +1,132 @@
+package com.reliaquest.api.configuration;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RestTemplateConfigTest {
+
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private final CountDownLatch slowRequestArrived = new CountDownLatch(1);
+
+    private ExecutorService serverExecutor;
+
+    private HttpServer server;
+
+    private UpstreamHttpClientProperties properties;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/fast", exchange -> respond(exchange, "ok"));
+        server.createContext("/slow", exchange -> {
+            slowRequestArrived.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            respond(exchange, "late");
+        });
+        serverExecutor = Executors.newCachedThreadPool();
+        server.setExecutor(serverExecutor);
+        server.start();
+
+        properties = new UpstreamHttpClientProperties();
+        properties.setBaseUrl("http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort());
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    void testPooledClientReusesConnections() {
+        RestTemplate restTemplate = restTemplate();
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals("ok", restTemplate.getForObject(properties.getBaseUrl() + "/fast", String.class));
+        }
+
+        assertEquals(1, clientPorts.size());
+    }
+
+    @Test
+    void testReadTimeoutFailsTheCall() {
+        properties.setReadTimeout(Duration.ofMillis(200));
+        properties.setResponseTimeout(Duration.ofMillis(200));
+        RestTemplate restTemplate = restTemplate();
+
+        long started = System.nanoTime();
+        assertThrows(ResourceAccessException.class,
+                () -> restTemplate.getForObject(properties.getBaseUrl() + "/slow", String.class));
+
+        assertTrue(Duration.ofNanos(System.nanoTime() - started).compareTo(Duration.ofSeconds(5)) < 0);
+    }
+
+    @Test
+    void testCallsBeyondThePerRouteLimitFailOnceTheLeaseTimesOut() throws Exception {
+        properties.setMaxConnectionsPerRoute(1);
+        properties.setConnectionRequestTimeout(Duration.ofMillis(200));
+        RestTemplate restTemplate = restTemplate();
+
+        CompletableFuture<String> holding = CompletableFuture.supplyAsync(
+                () -> restTemplate.getForObject(properties.getBaseUrl() + "/slow", String.class));
+        assertTrue(slowRequestArrived.await(5, TimeUnit.SECONDS));
+
+        assertThrows(ResourceAccessException.class,
+                () -> restTemplate.getForObject(properties.getBaseUrl() + "/fast", String.class));
+
+        release.countDown();
+        assertEquals("late", holding.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testHttp2UsesTheJdkClient() {
+        properties.setHttp2Enabled(true);
+
+        assertInstanceOf(JdkClientHttpRequestFactory.class, new RestTemplateConfig().upstreamRequestFactory(properties));
+    }
+
+    private RestTemplate restTemplate() {
+        return new RestTemplate(new RestTemplateConfig().upstreamRequestFactory(properties));
+    }
+
+    private void respond(HttpExchange exchange, String body) throws IOException {
+        clientPorts.add(exchange.getRemoteAddress().getPort());
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "text/plain");
+        exchange.sendResponseHeaders(200, bytes.length);
+        exchange.getResponseBody().write(bytes);
+        exchange.close();
+    }
+}
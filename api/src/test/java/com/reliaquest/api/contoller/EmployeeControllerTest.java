@@ -14,8 +14,10 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
@@ -48,6 +50,16 @@ class EmployeeControllerTest {
                 .andExpect(jsonPath("$[0].employee_salary").value(3000));
     }
 
+    @Test
+    void getAllEmployees_ShouldReportRosterAge() throws Exception {
+        when(employeeService.getAllEmployees()).thenReturn(List.of());
+        when(employeeService.getRosterAge()).thenReturn(Optional.of(Duration.ofSeconds(42)));
+
+        mockMvc.perform(get("/employee"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Age", "42"));
+    }
+
     @Test
     void getEmployeesByNameSearch_ShouldReturnEmployeeList() throws Exception {
         List<Employee> employees = Arrays.asList(TestSuitUtils.prepareEmployee());
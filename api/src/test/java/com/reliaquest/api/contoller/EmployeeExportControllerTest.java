@@ -0,0 +1,81 @@
+package com.reliaquest.api.contoller;
+
+import com.reliaquest.api.controller.impl.EmployeeExportController;
+import com.reliaquest.api.exception.EmployeeException;
+import com.reliaquest.api.models.Employee;
+import com.reliaquest.api.service.IEmployeeService;
+import com.reliaquest.api.utils.TestSuitUtils;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(EmployeeExportController.class)
+class EmployeeExportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private IEmployeeService employeeService;
+
+    @Test
+    void exportEmployees_ShouldWriteOneRecordPerLine() throws Exception {
+        Employee first = TestSuitUtils.prepareEmployee();
+        Employee second = TestSuitUtils.prepareEmployee();
+        when(employeeService.streamAllEmployees()).thenReturn(Stream.of(first, second));
+        when(employeeService.getRosterAge()).thenReturn(Optional.of(Duration.ofSeconds(7)));
+
+        MvcResult result = mockMvc.perform(get("/employee/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(header().string("Age", "7"))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        String[] lines = body.split("\n", -1);
+        assertEquals(3, lines.length);
+        assertTrue(lines[0].startsWith("{\"id\":\"" + first.getId() + "\""));
+        assertTrue(lines[1].startsWith("{\"id\":\"" + second.getId() + "\""));
+        assertEquals("", lines[2]);
+    }
+
+    @Test
+    void exportEmployees_EmptyRosterShouldBeEmpty() throws Exception {
+        when(employeeService.streamAllEmployees()).thenReturn(Stream.empty());
+
+        MvcResult result = mockMvc.perform(get("/employee/export")).andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void exportEmployees_LoadFailureShouldMapToErrorStatus() throws Exception {
+        when(employeeService.streamAllEmployees())
+                .thenThrow(new EmployeeException("No employees found.", HttpStatus.TOO_MANY_REQUESTS));
+
+        mockMvc.perform(get("/employee/export"))
+                .andExpect(status().isTooManyRequests());
+    }
+}
@@ -0,0 +1,78 @@
+package com.reliaquest.api.replica;
+
+import com.reliaquest.api.models.Employee;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class ColumnarRosterTest {
+
+    @Test
+    void testColumnsHoldEveryField() {
+        Employee employee = employee("employee", 5000, "Engineer");
+        employee.setAge(41);
+
+        ColumnarRoster columns = ColumnarRoster.of(List.of(employee), 0);
+
+        assertEquals(1, columns.size());
+        assertEquals(5000, columns.salary(0));
+        assertEquals(41, columns.age(0));
+        assertEquals("Engineer", columns.titles().get(columns.titleCode(0)));
+    }
+
+    @Test
+    void testTitlesAreDictionaryEncoded() {
+        ColumnarRoster columns = ColumnarRoster.of(List.of(
+                employee("a", 1000, "Engineer"),
+                employee("b", 2000, "Designer"),
+                employee("c", 3000, "Engineer"),
+                employee("d", 4000, null)), 0);
+
+        assertEquals(2, columns.titles().size());
+        assertEquals(columns.titleCode(0), columns.titleCode(2));
+        assertEquals(-1, columns.titleCode(3));
+    }
+
+    @Test
+    void testMissingValuesAreMarked() {
+        Employee employee = employee("a", null, null);
+
+        ColumnarRoster columns = ColumnarRoster.of(List.of(employee, employee("b", 2000, null)), 0);
+
+        assertEquals(ColumnarRoster.MISSING, columns.salary(0));
+        assertEquals(ColumnarRoster.MISSING, columns.age(0));
+        assertEquals(2000, columns.salary(1));
+    }
+
+    @Test
+    void testReplicaRebuildsColumnsOnlyAfterChanges() {
+        EmployeeReplica replica = new EmployeeReplica();
+        replica.replaceAll(List.of(employee("a", 1000, null)));
+
+        ColumnarRoster columns = replica.columns();
+        assertSame(columns, replica.columns());
+
+        replica.put(employee("b", 9000, null));
+        ColumnarRoster rebuilt = replica.columns();
+        assertNotSame(columns, rebuilt);
+        assertEquals(2, rebuilt.size());
+        assertEquals(10_000, rebuilt.salary(0) + rebuilt.salary(1));
+
+        replica.replaceAll(replica.findAll());
+        assertSame(rebuilt, replica.columns());
+    }
+
+    private Employee employee(String name, Integer salary, String title) {
+        return Employee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(salary)
+                .title(title)
+                .build();
+    }
+}
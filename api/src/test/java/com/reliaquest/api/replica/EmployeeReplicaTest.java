@@ -0,0 +1,110 @@
+package com.reliaquest.api.replica;
+
+import com.reliaquest.api.models.Employee;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EmployeeReplicaTest {
+
+    private EmployeeReplica employeeReplica;
+
+    private Employee alice;
+    private Employee bob;
+
+    @BeforeEach
+    void setUp() {
+        employeeReplica = new EmployeeReplica();
+        alice = employee("Alice Smith", 5000);
+        bob = employee("Bob Stone", 4000);
+        employeeReplica.replaceAll(List.of(alice, bob));
+    }
+
+    @Test
+    void testCreateDuringReloadSurvivesCommit() {
+        EmployeeReplica.RosterLoad load = employeeReplica.startReload();
+        load.accept(alice);
+        // created after the upstream page with bob was read
+        Employee carol = employee("Carol Stone", 9000);
+        employeeReplica.put(carol);
+        load.accept(bob);
+
+        load.commit();
+
+        assertEquals(carol, employeeReplica.findById(carol.getId()).orElseThrow());
+        assertEquals(List.of(bob, carol), sortedByName(employeeReplica.findByNameContaining("sto")));
+        assertEquals(9000, employeeReplica.findHighestSalary().orElseThrow());
+    }
+
+    @Test
+    void testDeleteDuringReloadSurvivesCommit() {
+        EmployeeReplica.RosterLoad load = employeeReplica.startReload();
+        load.accept(alice);
+        load.accept(bob);
+        // deleted after the upstream already returned alice
+        employeeReplica.remove(alice.getId());
+
+        load.commit();
+
+        assertTrue(employeeReplica.findById(alice.getId()).isEmpty());
+        assertEquals(List.of(bob), employeeReplica.findAll());
+        assertEquals(4000, employeeReplica.findHighestSalary().orElseThrow());
+    }
+
+    @Test
+    void testReloadThatAlreadyHasTheWriteIsUnchanged() {
+        Employee carol = employee("Carol Stone", 9000);
+        EmployeeReplica.RosterLoad load = employeeReplica.startReload();
+        employeeReplica.put(carol);
+        long version = employeeReplica.getVersion();
+        List.of(alice, bob, carol).forEach(load);
+
+        assertFalse(load.commit());
+        assertEquals(version, employeeReplica.getVersion());
+        assertEquals(3, employeeReplica.size());
+    }
+
+    @Test
+    void testWritesBeforeReloadAreNotReplayed() {
+        employeeReplica.put(employee("Carol Stone", 9000));
+        EmployeeReplica.RosterLoad load = employeeReplica.startReload();
+        // the upstream has since dropped carol again
+        List.of(alice, bob).forEach(load);
+
+        assertTrue(load.commit());
+        assertEquals(2, employeeReplica.size());
+    }
+
+    @Test
+    void testReloadOverlappedByTooManyWritesIsDiscarded() {
+        EmployeeReplica.RosterLoad load = employeeReplica.startReload();
+        for (int i = 0; i <= EmployeeReplica.WRITE_JOURNAL_MAX; i++) {
+            employeeReplica.put(employee("Employee " + i, i));
+        }
+        long version = employeeReplica.getVersion();
+        load.accept(alice);
+
+        assertFalse(load.commit());
+        assertEquals(version, employeeReplica.getVersion());
+        assertEquals(EmployeeReplica.WRITE_JOURNAL_MAX + 3, employeeReplica.size());
+    }
+
+    private static List<Employee> sortedByName(List<Employee> employees) {
+        return employees.stream().sorted(Comparator.comparing(Employee::getName)).toList();
+    }
+
+    private static Employee employee(String name, int salary) {
+        return Employee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(salary)
+                .build();
+    }
+}
@@ -0,0 +1,63 @@
+package com.reliaquest.api.replica;
+
+import com.reliaquest.api.models.Employee;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NameTrigramIndexTest {
+
+    private Employee tiger;
+    private Employee bill;
+    private NameTrigramIndex nameIndex;
+
+    @BeforeEach
+    void setUp() {
+        tiger = employee("Tiger Nixon");
+        bill = employee("Bill Bob");
+        nameIndex = new NameTrigramIndex(List.of(tiger, bill));
+    }
+
+    @Test
+    void testSearchIsCaseInsensitiveSubstringMatch() {
+        assertEquals(List.of(tiger.getId()), nameIndex.search("GER NIX"));
+        assertEquals(List.of(bill.getId()), nameIndex.search("bill bob"));
+        assertTrue(nameIndex.search("nixonx").isEmpty());
+    }
+
+    @Test
+    void testSearchRequiresAllTrigramsInOrder() {
+        // "ill" and "bob" are both present in "bill bob", but not as one substring
+        assertTrue(nameIndex.search("illbob").isEmpty());
+    }
+
+    @Test
+    void testShortQueriesFallBackToScan() {
+        assertEquals(2, nameIndex.search("i").size());
+        assertEquals(List.of(bill.getId()), nameIndex.search("bo"));
+        assertEquals(2, nameIndex.search("").size());
+    }
+
+    @Test
+    void testAddAndRemoveKeepIndexConsistent() {
+        Employee jill = employee("Jill Jenkins");
+        nameIndex.add(jill);
+        assertEquals(List.of(jill.getId()), nameIndex.search("jenk"));
+
+        nameIndex.remove(jill);
+        assertTrue(nameIndex.search("jenk").isEmpty());
+        assertEquals(List.of(bill.getId()), nameIndex.search("bill"));
+    }
+
+    private Employee employee(String name) {
+        return Employee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .build();
+    }
+}
@@ -0,0 +1,128 @@
+package com.reliaquest.api.replica;
+
+import com.reliaquest.api.models.Employee;
+import com.reliaquest.api.models.response.SalaryHistogramBucket;
+import com.reliaquest.api.models.response.SalaryPercentile;
+import com.reliaquest.api.models.response.SalaryStatistics;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SalaryAnalyticsTest {
+
+    @Test
+    void testPercentilesByNearestRank() {
+        SalaryAnalytics analytics = analytics(IntStream.rangeClosed(1, 100)
+                .mapToObj(i -> employee(i * 1000, 30, "Engineer"))
+                .toList());
+
+        List<SalaryPercentile> percentiles = analytics.percentiles(List.of(0.0, 50.0, 99.0, 99.5, 100.0));
+
+        assertEquals(List.of(1000, 50000, 99000, 100000, 100000),
+                percentiles.stream().map(SalaryPercentile::getSalary).toList());
+        assertEquals(99.5, percentiles.get(3).getPercentile());
+    }
+
+    @Test
+    void testPercentileRanksAreExact() {
+        SalaryAnalytics analytics = analytics(IntStream.rangeClosed(1, 100)
+                .mapToObj(i -> employee(i * 1000, 30, "Engineer"))
+                .toList());
+
+        // each of these is off by one rank when computed as Math.ceil(p / 100 * n)
+        List<SalaryPercentile> percentiles = analytics.percentiles(List.of(7.0, 14.0, 28.0, 56.0));
+
+        assertEquals(List.of(7000, 14000, 28000, 56000),
+                percentiles.stream().map(SalaryPercentile::getSalary).toList());
+    }
+
+    @Test
+    void testEqualWidthHistogramCoversEverySalary() {
+        SalaryAnalytics analytics = analytics(List.of(
+                employee(1000, 30, null), employee(1500, 30, null), employee(2000, 30, null), employee(5000, 30, null)));
+
+        List<SalaryHistogramBucket> histogram = analytics.histogram(4);
+
+        assertEquals(4, histogram.size());
+        assertEquals(1000, histogram.get(0).getFrom());
+        assertEquals(List.of(3, 0, 0, 1), histogram.stream().map(SalaryHistogramBucket::getCount).toList());
+        assertTrue(histogram.get(3).getTo() > 5000);
+    }
+
+    @Test
+    void testHistogramWithBoundsLeavesOutSalariesOutsideThem() {
+        SalaryAnalytics analytics = analytics(List.of(
+                employee(500, 30, null), employee(1000, 30, null), employee(1999, 30, null), employee(2000, 30, null), employee(9000, 30, null)));
+
+        List<SalaryHistogramBucket> histogram = analytics.histogram(new long[]{1000, 2000, 3000});
+
+        assertEquals(List.of(2, 1), histogram.stream().map(SalaryHistogramBucket::getCount).toList());
+    }
+
+    @Test
+    void testStatisticsByTitleAndAgeBand() {
+        SalaryAnalytics analytics = analytics(List.of(
+                employee(1000, 21, "Engineer"),
+                employee(3000, 29, "Engineer"),
+                employee(8000, 45, "Director"),
+                employee(null, 45, "Director")));
+
+        assertEquals(List.of(
+                        new SalaryStatistics("Director", 1, 8000, 8000, 8000),
+                        new SalaryStatistics("Engineer", 2, 2000, 1000, 3000)),
+                analytics.byTitle());
+        assertEquals(List.of(
+                        new SalaryStatistics("20-29", 2, 2000, 1000, 3000),
+                        new SalaryStatistics("40-49", 1, 8000, 8000, 8000)),
+                analytics.byAgeBand(10));
+    }
+
+    @Test
+    void testParallelPassMatchesTheRoster() {
+        Random random = new Random(11);
+        List<Employee> roster = IntStream.range(0, 50_000)
+                .mapToObj(i -> employee(30_000 + random.nextInt(470_000), 16 + random.nextInt(55), "title" + random.nextInt(20)))
+                .toList();
+
+        SalaryAnalytics analytics = analytics(roster);
+
+        assertEquals(roster.size(), analytics.count());
+        assertEquals(roster.size(), analytics.byTitle().stream().mapToInt(SalaryStatistics::getCount).sum());
+        assertEquals(roster.size(), analytics.byAgeBand(5).stream().mapToInt(SalaryStatistics::getCount).sum());
+        assertEquals(roster.size(), analytics.histogram(7).stream().mapToInt(SalaryHistogramBucket::getCount).sum());
+        assertEquals(roster.stream().mapToInt(Employee::getSalary).max().orElseThrow(),
+                analytics.percentiles(List.of(100.0)).get(0).getSalary());
+        assertEquals(roster.stream().mapToInt(Employee::getSalary).min().orElseThrow(),
+                analytics.byTitle().stream().mapToInt(SalaryStatistics::getMin).min().orElseThrow());
+    }
+
+    @Test
+    void testEmptyRoster() {
+        SalaryAnalytics analytics = analytics(List.of());
+
+        assertEquals(0, analytics.count());
+        assertTrue(analytics.percentiles(List.of(50.0)).isEmpty());
+        assertTrue(analytics.histogram(10).isEmpty());
+        assertTrue(analytics.byTitle().isEmpty());
+    }
+
+    private SalaryAnalytics analytics(List<Employee> roster) {
+        return SalaryAnalytics.of(ColumnarRoster.of(roster, 0));
+    }
+
+    private Employee employee(Integer salary, Integer age, String title) {
+        return Employee.builder()
+                .id(UUID.randomUUID())
+                .name("employee")
+                .salary(salary)
+                .age(age)
+                .title(title)
+                .build();
+    }
+}
@@ -0,0 +1,59 @@
+package com.reliaquest.api.replica;
+
+import com.reliaquest.api.models.Employee;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SalaryIndexTest {
+
+    @Test
+    void testHighestSalaryAndTopEarners() {
+        SalaryIndex salaryIndex = new SalaryIndex(IntStream.rangeClosed(1, 20)
+                .mapToObj(salary -> employee("employee" + salary, salary * 1000))
+                .toList());
+
+        assertEquals(20000, salaryIndex.highestSalary().orElseThrow());
+        List<String> topEarners = salaryIndex.topEarners(10).stream().map(Employee::getName).toList();
+        assertEquals(10, topEarners.size());
+        assertEquals("employee20", topEarners.get(0));
+        assertEquals("employee11", topEarners.get(9));
+    }
+
+    @Test
+    void testIncrementalAddAndRemove() {
+        Employee low = employee("low", 1000);
+        Employee high = employee("high", 9000);
+        SalaryIndex salaryIndex = new SalaryIndex(List.of(low));
+
+        salaryIndex.add(high);
+        assertEquals(9000, salaryIndex.highestSalary().orElseThrow());
+
+        salaryIndex.remove(high);
+        assertEquals(1000, salaryIndex.highestSalary().orElseThrow());
+
+        salaryIndex.remove(low);
+        assertTrue(salaryIndex.highestSalary().isEmpty());
+        assertTrue(salaryIndex.topEarners(10).isEmpty());
+    }
+
+    @Test
+    void testEqualSalariesAreAllKept() {
+        SalaryIndex salaryIndex = new SalaryIndex(List.of(employee("a", 5000), employee("b", 5000)));
+
+        assertEquals(2, salaryIndex.topEarners(10).size());
+    }
+
+    private Employee employee(String name, int salary) {
+        return Employee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(salary)
+                .build();
+    }
+}
@@ -0,0 +1,198 @@
+package com.reliaquest.api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.configuration.EmployeeBatchProperties;
+import com.reliaquest.api.constants.ErrorConstants;
+import com.reliaquest.api.exception.BatchValidationException;
+import com.reliaquest.api.exception.UpstreamThrottledException;
+import com.reliaquest.api.models.Employee;
+import com.reliaquest.api.models.request.CreateEmployeeRequest;
+import com.reliaquest.api.models.response.BatchItemResult;
+import com.reliaquest.api.models.response.BatchResponse;
+import com.reliaquest.api.service.impl.EmployeeBatchService;
+import com.reliaquest.api.utils.TestSuitUtils;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeBatchServiceTest {
+
+    private static final ValidatorFactory VALIDATOR_FACTORY = Validation.buildDefaultValidatorFactory();
+
+    @Mock
+    private IEmployeeService employeeService;
+
+    private EmployeeBatchProperties properties;
+
+    private EmployeeBatchService batchService;
+
+    @BeforeEach
+    void setUp() {
+        properties = new EmployeeBatchProperties();
+        properties.setParallelism(2);
+        properties.setThrottleBackoff(Duration.ofMillis(10));
+        batchService = new EmployeeBatchService(employeeService, VALIDATOR_FACTORY.getValidator(), properties);
+    }
+
+    @AfterAll
+    static void closeValidator() {
+        VALIDATOR_FACTORY.close();
+    }
+
+    private CreateEmployeeRequest request(String name) {
+        CreateEmployeeRequest request = new CreateEmployeeRequest();
+        request.setName(name);
+        request.setSalary(1000);
+        request.setAge(30);
+        request.setTitle("Engineer");
+        return request;
+    }
+
+    @Test
+    void testCreateEmployees_RejectsWholeBatchIfAnyItemIsInvalid() {
+        CreateEmployeeRequest invalid = request(" ");
+        invalid.setAge(12);
+
+        BatchValidationException exception = assertThrows(BatchValidationException.class,
+                () -> batchService.createEmployees(Arrays.asList(request("valid"), invalid, null)));
+
+        assertEquals(List.of(
+                "Item 1: " + ErrorConstants.INVALID_AGE_MESSAGE,
+                "Item 1: " + ErrorConstants.BLANK_NAME_MESSAGE,
+                "Item 2: Should not be null"), exception.getErrors());
+        verifyNoInteractions(employeeService);
+    }
+
+    @Test
+    void testCreateEmployees_RejectsEmptyAndOversizedBatches() {
+        properties.setMaxSize(1);
+
+        assertThrows(BatchValidationException.class, () -> batchService.createEmployees(List.of()));
+        assertThrows(BatchValidationException.class, () -> batchService.createEmployees(List.of(request("a"), request("b"))));
+        verifyNoInteractions(employeeService);
+    }
+
+    @Test
+    void testDeleteEmployees_RejectsBlankAndDuplicateIds() {
+        BatchValidationException exception = assertThrows(BatchValidationException.class,
+                () -> batchService.deleteEmployees(Arrays.asList("a", "", "a")));
+
+        assertEquals(List.of("Item 1: Id Should not be blank", "Item 2: Duplicate id a"), exception.getErrors());
+        verifyNoInteractions(employeeService);
+    }
+
+    @Test
+    void testCreateEmployees_ReportsResultPerItemInOrder() {
+        Employee created = TestSuitUtils.prepareEmployee();
+        CreateEmployeeRequest first = request("first");
+        CreateEmployeeRequest second = request("second");
+        when(employeeService.createEmployee(first)).thenReturn(created);
+        when(employeeService.createEmployee(second)).thenThrow(new HttpClientErrorException(HttpStatus.BAD_REQUEST));
+
+        BatchResponse<Employee> response = batchService.createEmployees(List.of(first, second));
+
+        assertEquals(1, response.getSucceeded());
+        assertEquals(1, response.getFailed());
+        assertEquals(0, response.getResults().get(0).getIndex());
+        assertEquals(201, response.getResults().get(0).getStatus());
+        assertEquals(created, response.getResults().get(0).getData());
+        assertEquals(1, response.getResults().get(1).getIndex());
+        assertEquals(400, response.getResults().get(1).getStatus());
+    }
+
+    @Test
+    void testDeleteEmployees_RetriesThrottledItems() {
+        doThrow(new UpstreamThrottledException(Duration.ofMillis(10)))
+                .doThrow(new HttpClientErrorException(HttpStatus.TOO_MANY_REQUESTS))
+                .doReturn(null)
+                .when(employeeService).deleteEmployeeById("a");
+
+        BatchResponse<String> response = batchService.deleteEmployees(List.of("a"));
+
+        assertEquals(1, response.getSucceeded());
+        assertEquals("a", response.getResults().get(0).getData());
+        verify(employeeService, times(3)).deleteEmployeeById("a");
+    }
+
+    @Test
+    void testDeleteEmployees_GivesUpWhenTimeBudgetRunsOut() {
+        properties.setMaxDuration(Duration.ofMillis(200));
+        when(employeeService.deleteEmployeeById(any())).thenThrow(new UpstreamThrottledException(Duration.ofSeconds(30)));
+
+        BatchResponse<String> response = batchService.deleteEmployees(List.of("a", "b"));
+
+        assertEquals(0, response.getSucceeded());
+        assertEquals(2, response.getFailed());
+        assertEquals(429, response.getResults().get(1).getStatus());
+        assertEquals(ErrorConstants.BATCH_TIME_BUDGET_EXHAUSTED, response.getResults().get(1).getErrorMessage());
+    }
+
+    @Test
+    void testDeleteEmployees_ConcurrentBatchesTakeTurns() throws Exception {
+        properties.setParallelism(1);
+        batchService = new EmployeeBatchService(employeeService, VALIDATOR_FACTORY.getValidator(), properties);
+        Queue<String> calls = new ConcurrentLinkedQueue<>();
+        AtomicReference<Thread> secondBatch = new AtomicReference<>();
+        when(employeeService.deleteEmployeeById(any())).thenAnswer(invocation -> {
+            String id = invocation.getArgument(0);
+            calls.add(id);
+            if (id.equals("a0")) {
+                // the second batch arrives while the first one holds the only thread
+                Thread batch = new Thread(() -> batchService.deleteEmployees(List.of("b0")));
+                secondBatch.set(batch);
+                batch.start();
+                while (batch.getState() != Thread.State.WAITING) {
+                    Thread.onSpinWait();
+                }
+            }
+            return id;
+        });
+
+        BatchResponse<String> response = batchService.deleteEmployees(List.of("a0", "a1", "a2"));
+        secondBatch.get().join(5000);
+
+        assertEquals(3, response.getSucceeded());
+        assertEquals(List.of("a0", "b0", "a1", "a2"), List.copyOf(calls));
+    }
+
+    @Test
+    void testRejectsTimeBudgetAboveTheCap() {
+        properties.setMaxDuration(Duration.ofMinutes(30));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> new EmployeeBatchService(employeeService, VALIDATOR_FACTORY.getValidator(), properties));
+    }
+
+    @Test
+    void testBatchResponseJsonHasNoDerivedFields() throws Exception {
+        BatchResponse<String> response = BatchResponse.of(List.of(new BatchItemResult<>(0, 200, "a", null)));
+
+        String json = new ObjectMapper().writeValueAsString(response);
+
+        assertEquals("{\"succeeded\":1,\"failed\":0,\"results\":[{\"index\":0,\"status\":200,\"data\":\"a\"}]}", json);
+    }
+}
@@ -1,38 +1,68 @@
 package com.reliaquest.api.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.configuration.EmployeeReplicaProperties;
 import com.reliaquest.api.constants.APIConstants;
 import com.reliaquest.api.constants.ErrorConstants;
 import com.reliaquest.api.exception.EmployeeException;
+import com.reliaquest.api.exception.UpstreamThrottledException;
 import com.reliaquest.api.models.Employee;
 import com.reliaquest.api.models.request.CreateEmployeeRequest;
 import com.reliaquest.api.models.response.APIResponse;
+import com.reliaquest.api.models.response.EmployeePage;
+import com.reliaquest.api.replica.EmployeeReplica;
+import com.reliaquest.api.replica.SalaryAnalytics;
 import com.reliaquest.api.service.impl.EmployeeService;
 import com.reliaquest.api.utils.TestSuitUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+import org.mockito.stubbing.OngoingStubbing;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RequestCallback;
+import org.springframework.web.client.ResponseExtractor;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyMap;
 import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.isNull;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -40,10 +70,15 @@ import static org.mockito.Mockito.when;
 @ExtendWith(MockitoExtension.class)
 class EmployeeServiceTest {
 
+    private static final ObjectMapper OBJECT_MAPPER = Jackson2ObjectMapperBuilder.json().build();
+
     @Mock
     private RestTemplate restTemplate;
 
-    @InjectMocks
+    private EmployeeReplica employeeReplica;
+
+    private EmployeeReplicaProperties replicaProperties;
+
     private EmployeeService employeeService;
 
     private List<Employee> mockEmployees;
@@ -53,6 +88,51 @@ class EmployeeServiceTest {
     void setUp() {
         mockEmployee = TestSuitUtils.prepareEmployee();
         mockEmployees = Arrays.asList(mockEmployee);
+        employeeReplica = new EmployeeReplica();
+        replicaProperties = new EmployeeReplicaProperties();
+        employeeService = new EmployeeService(restTemplate, employeeReplica, new ConcurrentMapCacheManager(), replicaProperties);
+    }
+
+    @SuppressWarnings("unchecked")
+    private OngoingStubbing<Object> whenRosterFetched() {
+        return when(restTemplate.execute(anyString(), eq(HttpMethod.GET), any(RequestCallback.class), any(ResponseExtractor.class), anyMap()));
+    }
+
+    /*
+     * Serves the roster the way the upstream does, so it goes through the service's streaming parser.
+     */
+    private Answer<Object> streamRoster(List<Employee> employees) {
+        return streamRosterPage(employees, null);
+    }
+
+    private Answer<Object> streamRosterPage(List<Employee> employees, String next) {
+        return streamRosterPage(employees, next, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Answer<Object> streamRosterPage(List<Employee> employees, String next, String eTag) {
+        return invocation -> {
+            byte[] body = OBJECT_MAPPER.writeValueAsBytes(new APIResponse<>(employees, "Successfully processed request.", next));
+            MockClientHttpResponse response = new MockClientHttpResponse(body, HttpStatus.OK);
+            if (eTag != null) {
+                response.getHeaders().setETag(eTag);
+            }
+            return ((ResponseExtractor<Integer>) invocation.getArgument(3)).extractData(response);
+        };
+    }
+
+    /*
+     * Answers with 304 only if the request carries the given ETag in If-None-Match.
+     */
+    @SuppressWarnings("unchecked")
+    private Answer<Object> notModifiedSince(String eTag) {
+        return invocation -> {
+            MockClientHttpRequest request = new MockClientHttpRequest();
+            ((RequestCallback) invocation.getArgument(2)).doWithRequest(request);
+            assertEquals(List.of(eTag), request.getHeaders().getIfNoneMatch());
+            return ((ResponseExtractor<Integer>) invocation.getArgument(3))
+                    .extractData(new MockClientHttpResponse(new byte[0], HttpStatus.NOT_MODIFIED));
+        };
     }
 
     private <T> ResponseEntity<APIResponse<T>> createMockResponse(T data) {
@@ -63,20 +143,62 @@ class EmployeeServiceTest {
 
     @Test
     void testGetAllEmployees_Success() {
-        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class)))
-                .thenReturn(createMockResponse(mockEmployees));
+        whenRosterFetched()
+                .thenAnswer(streamRoster(mockEmployees));
 
         List<Employee> employees = employeeService.getAllEmployees();
 
         assertNotNull(employees);
         assertEquals(1, employees.size());
-        verify(restTemplate, times(1)).exchange(anyString(), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class));
+        verify(restTemplate, times(1)).execute(eq(APIConstants.EMPLOYEE_FIRST_PAGE_URL), eq(HttpMethod.GET), any(RequestCallback.class), any(ResponseExtractor.class), anyMap());
+        verify(restTemplate, never()).exchange(anyString(), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class), anyString());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testGetAllEmployees_FetchedPageByPage() {
+        Employee secondEmployee = TestSuitUtils.prepareEmployee();
+        secondEmployee.setId(UUID.randomUUID());
+        replicaProperties.setPageSize(1);
+        whenRosterFetched()
+                .thenAnswer(streamRosterPage(List.of(mockEmployee), mockEmployee.getId().toString()))
+                .thenAnswer(streamRoster(List.of(secondEmployee)));
+
+        List<Employee> employees = employeeService.getAllEmployees();
+
+        assertEquals(2, employees.size());
+        verify(restTemplate).execute(eq(APIConstants.EMPLOYEE_FIRST_PAGE_URL), eq(HttpMethod.GET), any(RequestCallback.class),
+                any(ResponseExtractor.class), eq(Map.of("limit", 1)));
+        verify(restTemplate).execute(eq(APIConstants.EMPLOYEE_NEXT_PAGE_URL), eq(HttpMethod.GET), any(RequestCallback.class),
+                any(ResponseExtractor.class), eq(Map.of("limit", 1, "after", mockEmployee.getId().toString())));
+    }
+
+    @Test
+    void testGetEmployeesPage_ContinuesAfterCursor() {
+        List<Employee> roster = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Employee employee = TestSuitUtils.prepareEmployee();
+            employee.setId(UUID.randomUUID());
+            roster.add(employee);
+        }
+        whenRosterFetched()
+                .thenAnswer(streamRoster(roster));
+
+        List<UUID> paged = new ArrayList<>();
+        EmployeePage page = employeeService.getEmployeesPage(null, 2);
+        paged.addAll(page.getEmployees().stream().map(Employee::getId).toList());
+        while (page.getNext() != null) {
+            page = employeeService.getEmployeesPage(UUID.fromString(page.getNext()), 2);
+            paged.addAll(page.getEmployees().stream().map(Employee::getId).toList());
+        }
+
+        assertEquals(roster.stream().map(Employee::getId).sorted().toList(), paged);
     }
 
     @Test
     void testGetAllEmployees_EmptyList() {
-        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class)))
-                .thenReturn(createMockResponse(List.of()));
+        whenRosterFetched()
+                .thenAnswer(streamRoster(List.of()));
 
         List<Employee> employees = employeeService.getAllEmployees();
 
@@ -86,8 +208,8 @@ class EmployeeServiceTest {
 
     @Test
     void testGetEmployeesByNameSearch_Found() {
-        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class)))
-                .thenReturn(createMockResponse(mockEmployees));
+        whenRosterFetched()
+                .thenAnswer(streamRoster(mockEmployees));
 
         List<Employee> employees = employeeService.getEmployeesByNameSearch("te");
 
@@ -98,8 +220,8 @@ class EmployeeServiceTest {
 
     @Test
     void testGetEmployeesByNameSearch_NotFound() {
-        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class)))
-                .thenReturn(createMockResponse(mockEmployees));
+        whenRosterFetched()
+                .thenAnswer(streamRoster(mockEmployees));
 
         List<Employee> employees = employeeService.getEmployeesByNameSearch("nonexistent");
 
@@ -109,19 +231,213 @@ class EmployeeServiceTest {
 
     @Test
     void testGetEmployeeById_Found() {
-        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class)))
-                .thenReturn(createMockResponse(mockEmployee));
+        whenRosterFetched()
+                .thenAnswer(streamRoster(mockEmployees));
 
-        Employee employee = employeeService.getEmployeeById(String.valueOf(UUID.randomUUID()));
+        Employee employee = employeeService.getEmployeeById(String.valueOf(mockEmployee.getId()));
 
         assertNotNull(employee);
         assertEquals("test", employee.getName());
-        verify(restTemplate, times(1)).exchange(anyString(), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class));
+        verify(restTemplate, times(1)).execute(eq(APIConstants.EMPLOYEE_FIRST_PAGE_URL), eq(HttpMethod.GET), any(RequestCallback.class), any(ResponseExtractor.class), anyMap());
+        verify(restTemplate, never()).exchange(anyString(), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class), anyString());
+    }
+
+    @Test
+    void testGetEmployeeById_ReplicaMissFallsBackToUpstream() {
+        Employee upstreamEmployee = TestSuitUtils.prepareEmployee();
+        whenRosterFetched()
+                .thenAnswer(streamRoster(mockEmployees));
+        when(restTemplate.exchange(eq(APIConstants.EMPLOYEE_BY_ID_URL), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class), eq(String.valueOf(upstreamEmployee.getId()))))
+                .thenReturn(createMockResponse(upstreamEmployee));
+
+        Employee employee = employeeService.getEmployeeById(String.valueOf(upstreamEmployee.getId()));
+
+        assertEquals(upstreamEmployee, employee);
+        assertTrue(employeeReplica.findById(upstreamEmployee.getId()).isPresent());
+    }
+
+    @Test
+    void testReadsAreServedFromReplica() {
+        whenRosterFetched()
+                .thenAnswer(streamRoster(mockEmployees));
+
+        employeeService.getAllEmployees();
+        employeeService.getEmployeesByNameSearch("te");
+        employeeService.getEmployeeById(String.valueOf(mockEmployee.getId()));
+        employeeService.getHighestSalaryOfEmployees();
+        employeeService.getTopTenHighestEarningEmployeeNames();
+
+        verify(restTemplate, times(1)).execute(eq(APIConstants.EMPLOYEE_FIRST_PAGE_URL), eq(HttpMethod.GET), any(RequestCallback.class), any(ResponseExtractor.class), anyMap());
+        verify(restTemplate, never()).exchange(anyString(), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class), anyString());
+    }
+
+    @Test
+    void testRefreshReplica_KeepsLastRosterOnFailure() {
+        whenRosterFetched()
+                .thenAnswer(streamRoster(mockEmployees))
+                .thenThrow(new HttpClientErrorException(HttpStatus.TOO_MANY_REQUESTS));
+
+        assertTrue(employeeService.refreshReplica());
+        assertFalse(employeeService.refreshReplica());
+        assertEquals(1, employeeService.getAllEmployees().size());
+        assertTrue(employeeService.getRosterAge().isPresent());
+    }
+
+    @Test
+    void testRefreshReplica_RevalidatesWithETag() {
+        whenRosterFetched()
+                .thenAnswer(streamRosterPage(mockEmployees, null, "\"v1\""))
+                .thenAnswer(notModifiedSince("\"v1\""));
+
+        assertTrue(employeeService.refreshReplica());
+        Instant revalidatedAfter = Instant.now();
+
+        assertFalse(employeeService.refreshReplica());
+        assertEquals(1, employeeService.getAllEmployees().size());
+        assertTrue(employeeReplica.getAge().orElseThrow().compareTo(Duration.between(revalidatedAfter, Instant.now())) <= 0);
+        verify(restTemplate, times(2)).execute(eq(APIConstants.EMPLOYEE_FIRST_PAGE_URL), eq(HttpMethod.GET), any(RequestCallback.class), any(ResponseExtractor.class), anyMap());
+    }
+
+    @Test
+    void testRefreshReplica_PagesOfDifferentVersionsAreNotRevalidated() {
+        Employee secondEmployee = TestSuitUtils.prepareEmployee();
+        secondEmployee.setId(UUID.randomUUID());
+        whenRosterFetched()
+                .thenAnswer(streamRosterPage(List.of(mockEmployee), mockEmployee.getId().toString(), "\"v1\""))
+                .thenAnswer(streamRosterPage(List.of(secondEmployee), null, "\"v2\""));
+
+        assertTrue(employeeService.refreshReplica());
+
+        assertNull(employeeReplica.getUpstreamETag());
+    }
+
+    /*
+     * Serves the roster one employee per page, with the cursor being the next page's index, and throttles
+     * every third request as an upstream admitting two requests per window would.
+     */
+    @SuppressWarnings("unchecked")
+    private Answer<Object> pagedRosterThrottledEveryThirdRequest(List<Employee> roster, List<Object> cursors,
+                                                                 RuntimeException throttled) {
+        AtomicInteger requests = new AtomicInteger();
+        return invocation -> {
+            if (requests.incrementAndGet() % 3 == 0) {
+                throw throttled;
+            }
+            Object after = ((Map<String, Object>) invocation.getArgument(4)).get("after");
+            cursors.add(after);
+            int page = after == null ? 0 : Integer.parseInt((String) after);
+            String next = page + 1 < roster.size() ? String.valueOf(page + 1) : null;
+            return streamRosterPage(List.of(roster.get(page)), next).answer(invocation);
+        };
+    }
+
+    @Test
+    void testRefreshReplica_ThrottledLoadResumesFromItsCursor() {
+        List<Employee> roster = IntStream.range(0, 7).mapToObj(i -> TestSuitUtils.prepareEmployee()).toList();
+        List<Object> cursors = new ArrayList<>();
+        whenRosterFetched()
+                .thenAnswer(pagedRosterThrottledEveryThirdRequest(roster, cursors, new UpstreamThrottledException(Duration.ofSeconds(30))));
+
+        int throttledRefreshes = 0;
+        while (!employeeService.refreshReplica()) {
+            assertTrue(++throttledRefreshes < roster.size(), "roster was never loaded");
+        }
+
+        assertEquals(3, throttledRefreshes);
+        assertEquals(roster.size(), employeeReplica.size());
+        assertEquals(Arrays.asList(null, "1", "2", "3", "4", "5", "6"), cursors);
+        verify(restTemplate, times(1)).execute(eq(APIConstants.EMPLOYEE_FIRST_PAGE_URL), eq(HttpMethod.GET), any(RequestCallback.class), any(ResponseExtractor.class), anyMap());
+    }
+
+    @Test
+    void testRefreshReplica_ThrottledLoadOlderThanMaxStalenessStartsOver() {
+        replicaProperties.setMaxStaleness(Duration.ZERO);
+        List<Employee> roster = IntStream.range(0, 7).mapToObj(i -> TestSuitUtils.prepareEmployee()).toList();
+        List<Object> cursors = new ArrayList<>();
+        whenRosterFetched()
+                .thenAnswer(pagedRosterThrottledEveryThirdRequest(roster, cursors, new HttpClientErrorException(HttpStatus.TOO_MANY_REQUESTS)));
+
+        assertFalse(employeeService.refreshReplica());
+        assertFalse(employeeService.refreshReplica());
+
+        assertFalse(employeeReplica.isInitialized());
+        assertEquals(Arrays.asList(null, "1", null, "1"), cursors);
+    }
+
+    @Test
+    void testGetAllEmployees_BeyondMaxStalenessRequiresRefresh() {
+        replicaProperties.setMaxStaleness(Duration.ZERO);
+        whenRosterFetched()
+                .thenAnswer(streamRoster(mockEmployees))
+                .thenThrow(new HttpClientErrorException(HttpStatus.TOO_MANY_REQUESTS));
+
+        assertTrue(employeeService.refreshReplica());
+
+        HttpClientErrorException exception = assertThrows(HttpClientErrorException.class, () -> employeeService.getAllEmployees());
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, exception.getStatusCode());
+    }
+
+    @Test
+    void testGetAllEmployees_FailedReloadBacksOff() {
+        whenRosterFetched()
+                .thenThrow(new HttpClientErrorException(HttpStatus.SERVICE_UNAVAILABLE))
+                .thenAnswer(streamRoster(mockEmployees));
+
+        assertThrows(HttpClientErrorException.class, () -> employeeService.getAllEmployees());
+        HttpClientErrorException exception = assertThrows(HttpClientErrorException.class, () -> employeeService.getAllEmployees());
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, exception.getStatusCode());
+        verify(restTemplate, times(1)).execute(anyString(), eq(HttpMethod.GET), any(RequestCallback.class), any(ResponseExtractor.class), anyMap());
+
+        replicaProperties.setReloadBackoff(Duration.ZERO);
+        assertEquals(1, employeeService.getAllEmployees().size());
+    }
+
+    @Test
+    void testGetAllEmployees_ThrottledReloadBacksOffForRetryAfter() {
+        replicaProperties.setReloadBackoff(Duration.ZERO);
+        whenRosterFetched()
+                .thenThrow(new UpstreamThrottledException(Duration.ofMinutes(1)));
+
+        assertThrows(UpstreamThrottledException.class, () -> employeeService.getAllEmployees());
+        assertThrows(UpstreamThrottledException.class, () -> employeeService.getAllEmployees());
+        verify(restTemplate, times(1)).execute(anyString(), eq(HttpMethod.GET), any(RequestCallback.class), any(ResponseExtractor.class), anyMap());
+    }
+
+    @Test
+    void testGetAllEmployees_ConcurrentReadersShareOneReload() throws Exception {
+        CountDownLatch fetchStarted = new CountDownLatch(1);
+        CountDownLatch releaseFetch = new CountDownLatch(1);
+        Answer<Object> roster = streamRoster(mockEmployees);
+        whenRosterFetched().thenAnswer(invocation -> {
+            fetchStarted.countDown();
+            assertTrue(releaseFetch.await(10, TimeUnit.SECONDS));
+            return roster.answer(invocation);
+        });
+
+        ExecutorService readers = Executors.newFixedThreadPool(4);
+        try {
+            Future<List<Employee>> leader = readers.submit(() -> employeeService.getAllEmployees());
+            assertTrue(fetchStarted.await(10, TimeUnit.SECONDS));
+            List<Future<List<Employee>>> followers = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                followers.add(readers.submit(() -> employeeService.getAllEmployees()));
+            }
+            Thread.sleep(100);
+            releaseFetch.countDown();
+
+            assertEquals(1, leader.get(10, TimeUnit.SECONDS).size());
+            for (Future<List<Employee>> follower : followers) {
+                assertEquals(1, follower.get(10, TimeUnit.SECONDS).size());
+            }
+        } finally {
+            readers.shutdownNow();
+        }
+        verify(restTemplate, times(1)).execute(anyString(), eq(HttpMethod.GET), any(RequestCallback.class), any(ResponseExtractor.class), anyMap());
     }
 
     @Test
     void testGetEmployeeById_NotFound() {
-        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class)))
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class), anyString()))
                 .thenThrow(new EmployeeException("Employee not found with ID: 99"));
 
         EmployeeException exception = assertThrows(EmployeeException.class, () -> employeeService.getEmployeeById("99"));
@@ -130,8 +446,8 @@ class EmployeeServiceTest {
 
     @Test
     void testGetHighestSalaryOfEmployees_Success() {
-        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class)))
-                .thenReturn(createMockResponse(mockEmployees));
+        whenRosterFetched()
+                .thenAnswer(streamRoster(mockEmployees));
 
         Integer highestSalary = employeeService.getHighestSalaryOfEmployees();
 
@@ -140,17 +456,40 @@ class EmployeeServiceTest {
 
     @Test
     void testGetHighestSalaryOfEmployees_EmptyList() {
-        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class)))
-                .thenReturn(createMockResponse(List.of()));
+        whenRosterFetched()
+                .thenAnswer(streamRoster(List.of()));
 
         EmployeeException exception = assertThrows(EmployeeException.class, () -> employeeService.getHighestSalaryOfEmployees());
         assertEquals(ErrorConstants.NO_EMPLOYEE_FOR_CALCULATION, exception.getMessage());
     }
 
+    @Test
+    void testGetSalaryAnalytics_ReusedUntilRosterChanges() {
+        whenRosterFetched()
+                .thenAnswer(streamRoster(mockEmployees));
+
+        SalaryAnalytics salaryAnalytics = employeeService.getSalaryAnalytics();
+        assertEquals(1, salaryAnalytics.count());
+        assertSame(salaryAnalytics, employeeService.getSalaryAnalytics());
+
+        employeeReplica.put(TestSuitUtils.prepareEmployee());
+        assertEquals(2, employeeService.getSalaryAnalytics().count());
+    }
+
+    @Test
+    void testGetSalaryAnalytics_EmptyList() {
+        whenRosterFetched()
+                .thenAnswer(streamRoster(List.of()));
+
+        EmployeeException exception = assertThrows(EmployeeException.class, () -> employeeService.getSalaryAnalytics());
+        assertEquals(ErrorConstants.NO_EMPLOYEE_FOR_SALARY_ANALYTICS, exception.getMessage());
+        assertEquals(404, exception.getHttpStatusCode().value());
+    }
+
     @Test
     void testGetTopTenHighestEarningEmployeeNames() {
-        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class)))
-                .thenReturn(createMockResponse(mockEmployees));
+        whenRosterFetched()
+                .thenAnswer(streamRoster(mockEmployees));
 
         List<String> topEarnerNames = employeeService.getTopTenHighestEarningEmployeeNames();
 
@@ -161,8 +500,8 @@ class EmployeeServiceTest {
 
     @Test
     void testGetTopTenHighestEarningEmployeeNames_NotFound() {
-        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class)))
-                .thenReturn(createMockResponse(List.of()));
+        whenRosterFetched()
+                .thenAnswer(streamRoster(List.of()));
 
         List<String> topEarnerNames = employeeService.getTopTenHighestEarningEmployeeNames();
 
@@ -186,7 +525,7 @@ class EmployeeServiceTest {
     void testDeleteEmployeeById_Success() {
         String url = APIConstants.EMPLOYEE_BASE_URL + "/1";
 
-        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class)))
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class), anyString()))
                 .thenReturn(createMockResponse(mockEmployee));
 
         when(restTemplate.exchange(anyString(), eq(HttpMethod.DELETE), any(HttpEntity.class), any(ParameterizedTypeReference.class)))
@@ -196,8 +535,21 @@ class EmployeeServiceTest {
 
         assertNull(response);
 
-        verify(restTemplate, times(1)).exchange(anyString(), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class));
+        verify(restTemplate, times(1)).exchange(anyString(), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class), anyString());
         verify(restTemplate, times(1)).exchange(anyString(), eq(HttpMethod.DELETE), any(HttpEntity.class), any(ParameterizedTypeReference.class));
     }
-}
 
+    @Test
+    void testDeleteEmployeeById_ResolvesNameFromReplica() {
+        employeeReplica.replaceAll(mockEmployees);
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.DELETE), any(HttpEntity.class), any(ParameterizedTypeReference.class)))
+                .thenReturn(ResponseEntity.noContent().build());
+
+        employeeService.deleteEmployeeById(String.valueOf(mockEmployee.getId()));
+
+        assertTrue(employeeReplica.findById(mockEmployee.getId()).isEmpty());
+        verify(restTemplate, times(1)).exchange(anyString(), eq(HttpMethod.DELETE), any(HttpEntity.class), any(ParameterizedTypeReference.class));
+        verify(restTemplate, never()).exchange(anyString(), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class), anyString());
+        verify(restTemplate, never()).execute(anyString(), eq(HttpMethod.GET), any(RequestCallback.class), any(ResponseExtractor.class), anyMap());
+    }
+}
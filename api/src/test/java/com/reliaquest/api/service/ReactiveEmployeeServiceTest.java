@@ -0,0 +1,135 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.configuration.EmployeeReplicaProperties;
+import com.reliaquest.api.configuration.UpstreamRateLimitProperties;
+import com.reliaquest.api.exception.EmployeeException;
+import com.reliaquest.api.exception.UpstreamThrottledException;
+import com.reliaquest.api.replica.EmployeeReplica;
+import com.reliaquest.api.service.impl.ReactiveEmployeeService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReactiveEmployeeServiceTest {
+
+    private static final String ID = "4a3a170b-22cd-4ac2-aad1-9bb5b34a1507";
+
+    private static final String ROSTER = """
+            {"data":[{"id":"%s","employee_name":"Tiger Nixon","employee_salary":320800,"employee_age":61,
+            "employee_title":"Vice Chair","employee_email":"tnixon@company.com"}],"status":"Successfully processed request."}
+            """.formatted(ID);
+
+    private final AtomicInteger rosterCalls = new AtomicInteger();
+
+    private HttpStatus rosterStatus;
+
+    private ReactiveEmployeeService employeeService;
+
+    @BeforeEach
+    void setUp() {
+        rosterStatus = HttpStatus.OK;
+        UpstreamRateLimitProperties rateLimitProperties = new UpstreamRateLimitProperties();
+        rateLimitProperties.setRetryJitter(Duration.ofMillis(1));
+        WebClient webClient = WebClient.builder()
+                .baseUrl("http://localhost:8112/api/v1/employee")
+                .exchangeFunction(request -> {
+                    if (request.method() == HttpMethod.GET && request.url().getPath().endsWith("/employee")) {
+                        rosterCalls.incrementAndGet();
+                        return Mono.just(ClientResponse.create(rosterStatus)
+                                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                                .body(rosterStatus.is2xxSuccessful() ? ROSTER : "")
+                                .build());
+                    }
+                    return Mono.just(ClientResponse.create(HttpStatus.NOT_FOUND).build());
+                })
+                .build();
+        employeeService = new ReactiveEmployeeService(webClient, new EmployeeReplica(), new EmployeeReplicaProperties(), rateLimitProperties);
+    }
+
+    @Test
+    void testReadsAreServedFromReplica() {
+        assertEquals(1, employeeService.getAllEmployeesAsync().block().size());
+        assertEquals("Tiger Nixon", employeeService.getEmployeeByIdAsync(ID).block().getName());
+        assertEquals(320800, employeeService.getHighestSalaryOfEmployeesAsync().block());
+        assertEquals(List.of("Tiger Nixon"), employeeService.getTopTenHighestEarningEmployeeNamesAsync().block());
+        assertEquals(1, employeeService.getEmployeesByNameSearchAsync("nix").block().size());
+
+        assertEquals(1, rosterCalls.get());
+    }
+
+    @Test
+    void testUnknownIdIsNotFound() {
+        employeeService.getAllEmployees();
+
+        EmployeeException exception = assertThrows(EmployeeException.class,
+                () -> employeeService.getEmployeeById("5255f1a5-f9f7-4be5-829a-134bde088d17"));
+        assertEquals(404, exception.getHttpStatusCode().value());
+    }
+
+    @Test
+    void testThrottledRosterIsRetriedThenReported() {
+        rosterStatus = HttpStatus.TOO_MANY_REQUESTS;
+
+        EmployeeException exception = assertThrows(EmployeeException.class, () -> employeeService.getAllEmployees());
+
+        assertEquals(429, exception.getHttpStatusCode().value());
+        assertEquals(3, rosterCalls.get());
+    }
+
+    @Test
+    void testThrottledRosterLoadResumesFromItsCursor() {
+        List<String> ids = IntStream.range(0, 7).mapToObj(i -> UUID.randomUUID().toString()).toList();
+        List<String> cursors = new ArrayList<>();
+        AtomicInteger requests = new AtomicInteger();
+        // one employee per page and two requests per rate limit window
+        WebClient webClient = WebClient.builder()
+                .baseUrl("http://localhost:8112/api/v1/employee")
+                .exchangeFunction(request -> {
+                    if (requests.incrementAndGet() % 3 == 0) {
+                        return Mono.error(new UpstreamThrottledException(Duration.ofSeconds(30)));
+                    }
+                    String after = UriComponentsBuilder.fromUri(request.url()).build().getQueryParams().getFirst("after");
+                    cursors.add(after);
+                    int page = after == null ? 0 : Integer.parseInt(after);
+                    String next = page + 1 < ids.size() ? "\"" + (page + 1) + "\"" : "null";
+                    return Mono.just(ClientResponse.create(HttpStatus.OK)
+                            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                            .body("""
+                                    {"data":[{"id":"%s","employee_name":"Employee %d","employee_salary":1000}],"next":%s}
+                                    """.formatted(ids.get(page), page, next))
+                            .build());
+                })
+                .build();
+        EmployeeReplica employeeReplica = new EmployeeReplica();
+        ReactiveEmployeeService pagedService = new ReactiveEmployeeService(webClient, employeeReplica, new EmployeeReplicaProperties(),
+                new UpstreamRateLimitProperties());
+
+        int throttledRefreshes = 0;
+        while (!pagedService.refreshReplica()) {
+            assertTrue(++throttledRefreshes < ids.size(), "roster was never loaded");
+        }
+
+        assertEquals(3, throttledRefreshes);
+        assertEquals(ids.size(), employeeReplica.size());
+        assertEquals(Arrays.asList(null, "1", "2", "3", "4", "5", "6"), cursors);
+    }
+}
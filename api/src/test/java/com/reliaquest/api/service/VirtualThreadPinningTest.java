@@ -0,0 +1,82 @@
+package com.reliaquest.api.service;
+
+import com.reliaquest.api.configuration.EmployeeReplicaProperties;
+import com.reliaquest.api.replica.EmployeeReplica;
+import com.reliaquest.api.service.impl.EmployeeService;
+import com.reliaquest.api.utils.SlowRestTemplate;
+import jdk.jfr.Event;
+import jdk.jfr.Name;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs the blocking EmployeeService paths (cold replica load under a lock, single-flight waits,
+ * by-id upstream fallbacks, writes) concurrently on virtual threads and fails if any of them parks
+ * while pinned to its carrier thread. Only runs on Java 21+, e.g. {@code ./gradlew api:test -PjavaVersion=21}.
+ */
+@EnabledForJreRange(min = JRE.JAVA_21)
+class VirtualThreadPinningTest {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    @Test
+    void testBlockingPathsDoNotPinCarrierThreads() throws Exception {
+        EmployeeService employeeService = new EmployeeService(new SlowRestTemplate(20), new EmployeeReplica(),
+                new ConcurrentMapCacheManager(), new EmployeeReplicaProperties());
+        Queue<RecordedEvent> pinnedEvents = new ConcurrentLinkedQueue<>();
+        CountDownLatch flushed = new CountDownLatch(1);
+
+        try (RecordingStream recording = new RecordingStream()) {
+            recording.enable(PINNED_EVENT).withThreshold(Duration.ZERO).withStackTrace();
+            recording.enable(Flushed.class);
+            recording.onEvent(PINNED_EVENT, pinnedEvents::add);
+            recording.onEvent(Flushed.NAME, event -> flushed.countDown());
+            recording.startAsync();
+
+            // looked up reflectively so the test source still compiles on the Java 17 toolchain
+            ExecutorService executor = (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            try {
+                List<Future<?>> calls = new ArrayList<>();
+                for (int i = 0; i < 200; i++) {
+                    calls.add(executor.submit(employeeService::getAllEmployees));
+                    calls.add(executor.submit(() -> employeeService.getEmployeeById(UUID.randomUUID().toString())));
+                    calls.add(executor.submit(employeeService::refreshReplica));
+                }
+                for (Future<?> call : calls) {
+                    call.get(30, TimeUnit.SECONDS);
+                }
+            } finally {
+                executor.shutdown();
+            }
+            // events reach the stream in commit order, so once the marker arrives every pinned event has too
+            new Flushed().commit();
+            assertTrue(flushed.await(30, TimeUnit.SECONDS), "JFR stream was not flushed");
+        }
+
+        assertTrue(pinnedEvents.isEmpty(), () -> "Carrier threads were pinned:\n" + pinnedEvents);
+    }
+
+    @Name(Flushed.NAME)
+    static class Flushed extends Event {
+
+        static final String NAME = "com.reliaquest.api.VirtualThreadPinningTest.Flushed";
+    }
+}
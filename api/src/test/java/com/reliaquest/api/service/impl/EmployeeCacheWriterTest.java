@@ -0,0 +1,139 @@
+package com.reliaquest.api.service.impl;
+
+import com.reliaquest.api.constants.APIConstants;
+import com.reliaquest.api.models.Employee;
+import com.reliaquest.api.replica.EmployeeReplica;
+import com.reliaquest.api.utils.TestSuitUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class EmployeeCacheWriterTest {
+
+    private CacheManager cacheManager;
+
+    private EmployeeReplica employeeReplica;
+
+    private EmployeeCacheWriter cacheWriter;
+
+    private Employee alice;
+    private Employee bob;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new CaffeineCacheManager();
+        employeeReplica = new EmployeeReplica();
+        cacheWriter = new EmployeeCacheWriter(cacheManager);
+
+        alice = TestSuitUtils.prepareEmployee();
+        alice.setName("Alice Smith");
+        alice.setSalary(5000);
+        bob = TestSuitUtils.prepareEmployee();
+        bob.setName("Bob Stone");
+        bob.setSalary(4000);
+        employeeReplica.replaceAll(List.of(alice, bob));
+
+        cache(APIConstants.GET_ALL_EMPLOYEES_CACHE_KEY).put(SimpleKey.EMPTY, List.of(alice, bob));
+        cache(APIConstants.GET_ALL_EMPLOYEES_BY_NAME_CACHE_KEY).put("sto", List.of(bob));
+        cache(APIConstants.GET_ALL_EMPLOYEES_BY_NAME_CACHE_KEY).put("ali", List.of(alice));
+        cache(APIConstants.GET_EMPLOYEE_BY_ID_CACHE_KEY).put(bob.getId().toString(), bob);
+        cache(APIConstants.GET_HIGHEST_SALARY_CACHE_KEY).put(SimpleKey.EMPTY, 5000);
+        cache(APIConstants.GET_TOP_TEN_HIGHEST_SALARY_NAME_KEY).put(SimpleKey.EMPTY, List.of("Alice Smith", "Bob Stone"));
+    }
+
+    private Cache cache(String name) {
+        return cacheManager.getCache(name);
+    }
+
+    private Object cached(String name, Object key) {
+        Cache.ValueWrapper value = cache(name).get(key);
+        return value == null ? null : value.get();
+    }
+
+    @Test
+    void testCreatePatchesCachedViews() {
+        Employee carol = TestSuitUtils.prepareEmployee();
+        carol.setName("Carol Stoner");
+        carol.setSalary(9000);
+        employeeReplica.put(carol);
+
+        cacheWriter.employeeCreated(carol, employeeReplica);
+
+        assertNull(cached(APIConstants.GET_ALL_EMPLOYEES_CACHE_KEY, SimpleKey.EMPTY));
+        assertEquals(List.of(bob, carol), cached(APIConstants.GET_ALL_EMPLOYEES_BY_NAME_CACHE_KEY, "sto"));
+        assertEquals(List.of(alice), cached(APIConstants.GET_ALL_EMPLOYEES_BY_NAME_CACHE_KEY, "ali"));
+        assertEquals(carol, cached(APIConstants.GET_EMPLOYEE_BY_ID_CACHE_KEY, carol.getId().toString()));
+        assertEquals(9000, cached(APIConstants.GET_HIGHEST_SALARY_CACHE_KEY, SimpleKey.EMPTY));
+        assertEquals(List.of("Carol Stoner", "Alice Smith", "Bob Stone"),
+                cached(APIConstants.GET_TOP_TEN_HIGHEST_SALARY_NAME_KEY, SimpleKey.EMPTY));
+    }
+
+    @Test
+    void testDeletePatchesCachedViews() {
+        employeeReplica.remove(alice.getId());
+
+        cacheWriter.employeeDeleted(alice.getId().toString(), alice, employeeReplica);
+
+        assertNull(cached(APIConstants.GET_ALL_EMPLOYEES_CACHE_KEY, SimpleKey.EMPTY));
+        assertEquals(List.of(), cached(APIConstants.GET_ALL_EMPLOYEES_BY_NAME_CACHE_KEY, "ali"));
+        assertEquals(List.of(bob), cached(APIConstants.GET_ALL_EMPLOYEES_BY_NAME_CACHE_KEY, "sto"));
+        assertEquals(bob, cached(APIConstants.GET_EMPLOYEE_BY_ID_CACHE_KEY, bob.getId().toString()));
+        assertEquals(4000, cached(APIConstants.GET_HIGHEST_SALARY_CACHE_KEY, SimpleKey.EMPTY));
+        assertEquals(List.of("Bob Stone"), cached(APIConstants.GET_TOP_TEN_HIGHEST_SALARY_NAME_KEY, SimpleKey.EMPTY));
+    }
+
+    @Test
+    void testDeleteOfUncachedEmployeeKeepsOtherViews() {
+        Employee stranger = TestSuitUtils.prepareEmployee();
+
+        cacheWriter.employeeDeleted(stranger.getId().toString(), stranger, employeeReplica);
+
+        assertNull(cached(APIConstants.GET_ALL_EMPLOYEES_CACHE_KEY, SimpleKey.EMPTY));
+        assertEquals(List.of(bob), cached(APIConstants.GET_ALL_EMPLOYEES_BY_NAME_CACHE_KEY, "sto"));
+        assertEquals(bob, cached(APIConstants.GET_EMPLOYEE_BY_ID_CACHE_KEY, bob.getId().toString()));
+        assertEquals(5000, cached(APIConstants.GET_HIGHEST_SALARY_CACHE_KEY, SimpleKey.EMPTY));
+    }
+
+    @Test
+    void testCreateOfAlreadyCachedEmployeeKeepsCachedViews() {
+        Employee carol = TestSuitUtils.prepareEmployee();
+        carol.setName("Carol Stoner");
+        carol.setSalary(9000);
+        employeeReplica.put(carol);
+        // read after the replica was updated but before the writer ran
+        cache(APIConstants.GET_ALL_EMPLOYEES_CACHE_KEY).put(SimpleKey.EMPTY, List.of(alice, bob, carol));
+        cache(APIConstants.GET_ALL_EMPLOYEES_BY_NAME_CACHE_KEY).put("sto", List.of(bob, carol));
+
+        cacheWriter.employeeCreated(carol, employeeReplica);
+
+        assertNull(cached(APIConstants.GET_ALL_EMPLOYEES_CACHE_KEY, SimpleKey.EMPTY));
+        assertEquals(List.of(bob, carol), cached(APIConstants.GET_ALL_EMPLOYEES_BY_NAME_CACHE_KEY, "sto"));
+        assertEquals(List.of(alice), cached(APIConstants.GET_ALL_EMPLOYEES_BY_NAME_CACHE_KEY, "ali"));
+        assertEquals(carol, cached(APIConstants.GET_EMPLOYEE_BY_ID_CACHE_KEY, carol.getId().toString()));
+        assertEquals(bob, cached(APIConstants.GET_EMPLOYEE_BY_ID_CACHE_KEY, bob.getId().toString()));
+        assertEquals(9000, cached(APIConstants.GET_HIGHEST_SALARY_CACHE_KEY, SimpleKey.EMPTY));
+        assertEquals(List.of("Carol Stoner", "Alice Smith", "Bob Stone"),
+                cached(APIConstants.GET_TOP_TEN_HIGHEST_SALARY_NAME_KEY, SimpleKey.EMPTY));
+    }
+
+    @Test
+    void testUncachedViewsStayUncached() {
+        cache(APIConstants.GET_ALL_EMPLOYEES_CACHE_KEY).clear();
+        cache(APIConstants.GET_HIGHEST_SALARY_CACHE_KEY).clear();
+        Employee carol = TestSuitUtils.prepareEmployee();
+        employeeReplica.put(carol);
+
+        cacheWriter.employeeCreated(carol, employeeReplica);
+
+        assertNull(cached(APIConstants.GET_ALL_EMPLOYEES_CACHE_KEY, SimpleKey.EMPTY));
+        assertNull(cached(APIConstants.GET_HIGHEST_SALARY_CACHE_KEY, SimpleKey.EMPTY));
+    }
+}
@@ -0,0 +1,74 @@
+package com.reliaquest.api.utils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reliaquest.api.models.response.APIResponse;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.web.client.RequestCallback;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.ResponseExtractor;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Stands in for the upstream: every call blocks the calling thread for a fixed latency, like a
+ * socket read would, and then answers with a one-employee roster or a single employee.
+ */
+public class SlowRestTemplate extends RestTemplate {
+
+    private static final ObjectMapper OBJECT_MAPPER = Jackson2ObjectMapperBuilder.json().build();
+
+    private final long latencyMs;
+
+    public SlowRestTemplate(long latencyMs) {
+        this.latencyMs = latencyMs;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> ResponseEntity<T> exchange(String url, HttpMethod method, HttpEntity<?> requestEntity,
+                                          ParameterizedTypeReference<T> responseType, Object... uriVariables) {
+        block();
+        return (ResponseEntity<T>) ResponseEntity.ok(new APIResponse<>(TestSuitUtils.prepareEmployee(), "Successfully processed request."));
+    }
+
+    @Override
+    public <T> T execute(String url, HttpMethod method, RequestCallback requestCallback,
+                         ResponseExtractor<T> responseExtractor, Object... uriVariables) {
+        return respondWithRoster(responseExtractor);
+    }
+
+    @Override
+    public <T> T execute(String url, HttpMethod method, RequestCallback requestCallback,
+                         ResponseExtractor<T> responseExtractor, Map<String, ?> uriVariables) {
+        return respondWithRoster(responseExtractor);
+    }
+
+    private <T> T respondWithRoster(ResponseExtractor<T> responseExtractor) {
+        block();
+        try {
+            byte[] body = OBJECT_MAPPER.writeValueAsBytes(
+                    new APIResponse<>(List.of(TestSuitUtils.prepareEmployee()), "Successfully processed request."));
+            return responseExtractor.extractData(new MockClientHttpResponse(body, HttpStatus.OK));
+        } catch (IOException e) {
+            throw new ResourceAccessException(e.getMessage());
+        }
+    }
+
+    private void block() {
+        try {
+            Thread.sleep(latencyMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.reliaquest.loadtest;
+
+import com.reliaquest.api.ApiApplication;
+import com.reliaquest.server.ServerApplication;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.net.URL;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.io.UrlResource;
+
+/**
+ * Capacity check before a rollout: starts the mock server and the api in this JVM on ephemeral ports,
+ * points the api at the mock server, and drives a mixed workload against the api. See
+ * {@link LoadTestOptions} for what can be tuned.
+ * <p>
+ * Both applications ship an {@code application.yml}, so each is started with its own file as its only
+ * config location; otherwise whichever comes first on the classpath would configure both.
+ */
+public class LoadTestApplication {
+
+    private static final Duration PREPARE_TIMEOUT = Duration.ofMinutes(3);
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        try (ConfigurableApplicationContext server =
+                        start(ServerApplication.class, "mock-employee-api", options.serverApplicationProperties());
+                ConfigurableApplicationContext api = start(
+                        ApiApplication.class,
+                        "employee-api",
+                        options.apiApplicationProperties("http://localhost:" + port(server)))) {
+            System.out.printf("mock server on port %d, api on port %d%n", port(server), port(api));
+
+            Workload workload = new Workload("http://localhost:" + port(api) + "/employee", options);
+            workload.prepare(PREPARE_TIMEOUT);
+            System.out.printf("roster of %d employees%n", workload.rosterSize());
+            if (!options.warmup().isZero()) {
+                System.out.printf("warming up for %s with %d clients%n", options.warmup(), options.concurrency());
+                workload.run(options.warmup());
+            }
+
+            MeterRegistry meterRegistry = api.getBean(MeterRegistry.class);
+            UpstreamStats before = UpstreamStats.of(meterRegistry);
+            System.out.printf("measuring for %s with %d clients%n", options.duration(), options.concurrency());
+            long start = System.nanoTime();
+            Map<Operation, OperationStats> stats = workload.run(options.duration());
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+            UpstreamStats upstream = UpstreamStats.of(meterRegistry).minus(before);
+
+            LoadTestReport report = LoadTestReport.of(options, elapsed, stats, upstream);
+            report.print(System.out);
+            report.write(options.report());
+            System.out.printf("%nreport written to %s%n", options.report().toAbsolutePath());
+        }
+    }
+
+    private static ConfigurableApplicationContext start(
+            Class<?> application, String applicationName, Map<String, String> properties) throws IOException {
+        Map<String, String> arguments = new LinkedHashMap<>();
+        arguments.put("spring.config.location", configLocation(applicationName));
+        arguments.put("server.port", "0");
+        arguments.put("spring.main.banner-mode", "off");
+        arguments.put("logging.level.root", "WARN");
+        arguments.put("logging.level.com.reliaquest", "WARN");
+        arguments.putAll(properties);
+        return new SpringApplicationBuilder(application)
+                .run(arguments.entrySet().stream()
+                        .map(argument -> "--" + argument.getKey() + "=" + argument.getValue())
+                        .toArray(String[]::new));
+    }
+
+    /*
+     * The application.yml on the classpath whose spring.application.name matches.
+     */
+    private static String configLocation(String applicationName) throws IOException {
+        YamlPropertySourceLoader loader = new YamlPropertySourceLoader();
+        for (URL url :
+                Collections.list(LoadTestApplication.class.getClassLoader().getResources("application.yml"))) {
+            for (PropertySource<?> source : loader.load(url.toString(), new UrlResource(url))) {
+                if (applicationName.equals(source.getProperty("spring.application.name"))) {
+                    return url.toString();
+                }
+            }
+        }
+        throw new IllegalStateException("No application.yml of " + applicationName + " on the classpath");
+    }
+
+    private static int port(ConfigurableApplicationContext context) {
+        return ((WebServerApplicationContext) context).getWebServer().getPort();
+    }
+}
@@ -0,0 +1,136 @@
+package com.reliaquest.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.boot.convert.DurationStyle;
+
+/**
+ * Settings of a load test run, given as {@code key=value} arguments:
+ * <ul>
+ *   <li>{@code duration} (30s) and {@code warmup} (10s): measured run, and the unmeasured run before it</li>
+ *   <li>{@code concurrency} (16): clients issuing requests back to back</li>
+ *   <li>{@code mix} (byId:40,search:25,list:5,highestSalary:5,topTen:5,create:10,delete:10): relative
+ *   weights of the {@link Operation operations}</li>
+ *   <li>{@code employees} (1000): size of the mock server's initial roster</li>
+ *   <li>{@code seed} (42): seed of the operation sequence, the generated requests and the mock server's roster</li>
+ *   <li>{@code rateLimit} (random): {@code off} to measure raw throughput, {@code random} for the mock
+ *   server's default limit, or {@code <requests>/<backoff>} (e.g. {@code 100/5s}) for a fixed one.
+ *   {@code off} also turns off the api's own upstream rate limiting</li>
+ *   <li>{@code report} (build/reports/loadtest/results.json): where the JSON report is written</li>
+ *   <li>{@code api.<property>} and {@code server.<property>}: passed on to the api or the mock server,
+ *   e.g. {@code api.employee.service.mode=reactive}</li>
+ * </ul>
+ */
+record LoadTestOptions(
+        Duration duration,
+        Duration warmup,
+        int concurrency,
+        Map<Operation, Integer> mix,
+        int employees,
+        long seed,
+        String rateLimit,
+        Path report,
+        Map<String, String> apiProperties,
+        Map<String, String> serverProperties) {
+
+    private static final Set<String> OPTIONS =
+            Set.of("duration", "warmup", "concurrency", "mix", "employees", "seed", "rateLimit", "report");
+
+    private static final String DEFAULT_MIX = "byId:40,search:25,list:5,highestSalary:5,topTen:5,create:10,delete:10";
+
+    static LoadTestOptions parse(String... args) {
+        Map<String, String> options = new LinkedHashMap<>();
+        Map<String, String> apiProperties = new LinkedHashMap<>();
+        Map<String, String> serverProperties = new LinkedHashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Expected key=value but got '" + arg + "'");
+            }
+            String key = arg.substring(0, separator);
+            String value = arg.substring(separator + 1);
+            if (key.startsWith("api.")) {
+                apiProperties.put(key.substring("api.".length()), value);
+            } else if (key.startsWith("server.")) {
+                serverProperties.put(key.substring("server.".length()), value);
+            } else if (OPTIONS.contains(key)) {
+                options.put(key, value);
+            } else {
+                throw new IllegalArgumentException("Unknown option '" + key + "', expected one of " + OPTIONS);
+            }
+        }
+
+        LoadTestOptions parsed = new LoadTestOptions(
+                DurationStyle.detectAndParse(options.getOrDefault("duration", "30s")),
+                DurationStyle.detectAndParse(options.getOrDefault("warmup", "10s")),
+                Integer.parseInt(options.getOrDefault("concurrency", "16")),
+                parseMix(options.getOrDefault("mix", DEFAULT_MIX)),
+                Integer.parseInt(options.getOrDefault("employees", "1000")),
+                Long.parseLong(options.getOrDefault("seed", "42")),
+                options.getOrDefault("rateLimit", "random"),
+                Path.of(options.getOrDefault("report", "build/reports/loadtest/results.json")),
+                apiProperties,
+                serverProperties);
+        if (parsed.concurrency() < 1) {
+            throw new IllegalArgumentException("concurrency must be at least 1");
+        }
+        return parsed;
+    }
+
+    /*
+     * Properties of the mock server, with the ones given on the command line taking precedence.
+     */
+    Map<String, String> serverApplicationProperties() {
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("mock.employees.max", String.valueOf(employees));
+        properties.put("mock.employees.seed", String.valueOf(seed));
+        switch (rateLimit) {
+            case "off" -> properties.put("mock.rate-limit.enabled", "false");
+            case "random" -> properties.put("mock.rate-limit.enabled", "true");
+            default -> {
+                String[] limit = rateLimit.split("/", 2);
+                if (limit.length != 2) {
+                    throw new IllegalArgumentException(
+                            "rateLimit must be off, random or <requests>/<backoff> but was " + rateLimit);
+                }
+                properties.put("mock.rate-limit.enabled", "true");
+                properties.put("mock.rate-limit.max-requests", String.valueOf(Integer.parseInt(limit[0])));
+                properties.put("mock.rate-limit.backoff", limit[1]);
+            }
+        }
+        properties.putAll(serverProperties);
+        return properties;
+    }
+
+    /*
+     * Properties of the api, with the ones given on the command line taking precedence.
+     */
+    Map<String, String> apiApplicationProperties(String upstreamUrl) {
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("employee.upstream.http.base-url", upstreamUrl);
+        if ("off".equals(rateLimit)) {
+            properties.put("employee.upstream.rate-limit.enabled", "false");
+        }
+        properties.putAll(apiProperties);
+        return properties;
+    }
+
+    private static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String entry : mix.split(",")) {
+            String[] weight = entry.split(":", 2);
+            if (weight.length != 2) {
+                throw new IllegalArgumentException("mix entries must be <operation>:<weight> but got " + entry);
+            }
+            weights.put(Operation.fromName(weight[0].trim()), Integer.parseInt(weight[1].trim()));
+        }
+        if (weights.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+            throw new IllegalArgumentException("mix needs at least one positive weight");
+        }
+        return weights;
+    }
+}
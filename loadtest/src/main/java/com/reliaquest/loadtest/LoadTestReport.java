@@ -0,0 +1,112 @@
+package com.reliaquest.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Outcome of a measured run: throughput and latency percentiles per operation and overall, plus what
+ * the api's calls to the mock server ran into. Printed as a table and written as JSON.
+ */
+record LoadTestReport(
+        Map<String, Object> settings,
+        double elapsedSeconds,
+        List<OperationReport> operations,
+        OperationReport total,
+        UpstreamStats upstream) {
+
+    /**
+     * @param statuses response counts by HTTP status, {@code -1} counting requests that got no response
+     */
+    record OperationReport(
+            String operation,
+            long requests,
+            long failures,
+            double throughput,
+            double p50Millis,
+            double p99Millis,
+            double p999Millis,
+            double maxMillis,
+            Map<Integer, Long> statuses) {
+
+        static OperationReport of(String operation, OperationStats stats, double elapsedSeconds) {
+            return new OperationReport(
+                    operation,
+                    stats.count(),
+                    stats.failures(),
+                    stats.count() / elapsedSeconds,
+                    stats.percentileMillis(50),
+                    stats.percentileMillis(99),
+                    stats.percentileMillis(99.9),
+                    stats.maxMillis(),
+                    stats.statuses());
+        }
+    }
+
+    static LoadTestReport of(
+            LoadTestOptions options, Duration elapsed, Map<Operation, OperationStats> stats, UpstreamStats upstream) {
+        double elapsedSeconds = elapsed.toNanos() / 1e9;
+        List<OperationReport> operations = new ArrayList<>();
+        OperationStats total = new OperationStats();
+        stats.forEach((operation, operationStats) -> {
+            operations.add(OperationReport.of(operation.optionName(), operationStats, elapsedSeconds));
+            total.add(operationStats);
+        });
+
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("duration", options.duration().toString());
+        settings.put("warmup", options.warmup().toString());
+        settings.put("concurrency", options.concurrency());
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        options.mix().forEach((operation, weight) -> mix.put(operation.optionName(), weight));
+        settings.put("mix", mix);
+        settings.put("employees", options.employees());
+        settings.put("seed", options.seed());
+        settings.put("rateLimit", options.rateLimit());
+        settings.put("api", options.apiProperties());
+        settings.put("server", options.serverProperties());
+        return new LoadTestReport(
+                settings, elapsedSeconds, operations, OperationReport.of("total", total, elapsedSeconds), upstream);
+    }
+
+    void print(PrintStream out) {
+        out.printf(
+                "%n%-14s %10s %9s %10s %10s %10s %10s %10s%n",
+                "operation", "requests", "failed", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms");
+        operations.forEach(operation -> print(out, operation));
+        print(out, total);
+        out.printf(
+                "%nupstream: %d calls, %d answered 429, %d turned away by the api while backing off%n",
+                upstream.calls(), upstream.throttled(), upstream.rejected());
+        operations.stream()
+                .filter(operation -> operation.failures() > 0)
+                .forEach(operation -> out.printf("%s statuses: %s%n", operation.operation(), operation.statuses()));
+    }
+
+    void write(Path path) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(path.toFile(), this);
+    }
+
+    private static void print(PrintStream out, OperationReport operation) {
+        out.printf(
+                "%-14s %10d %9d %10.1f %10.2f %10.2f %10.2f %10.2f%n",
+                operation.operation(),
+                operation.requests(),
+                operation.failures(),
+                operation.throughput(),
+                operation.p50Millis(),
+                operation.p99Millis(),
+                operation.p999Millis(),
+                operation.maxMillis());
+    }
+}
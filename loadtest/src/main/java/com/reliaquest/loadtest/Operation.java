@@ -0,0 +1,39 @@
+package com.reliaquest.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Requests the workload is made of, named as in the {@code mix} option.
+ */
+enum Operation {
+    LIST("list"),
+    BY_ID("byId"),
+    SEARCH("search"),
+    HIGHEST_SALARY("highestSalary"),
+    TOP_TEN("topTen"),
+    CREATE("create"),
+    DELETE("delete");
+
+    private final String optionName;
+
+    Operation(String optionName) {
+        this.optionName = optionName;
+    }
+
+    String optionName() {
+        return optionName;
+    }
+
+    static Operation fromName(String name) {
+        return Arrays.stream(values())
+                .filter(operation -> operation.optionName.equals(name))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "Unknown operation '" + name + "', expected one of " + Arrays.toString(values())));
+    }
+
+    @Override
+    public String toString() {
+        return optionName;
+    }
+}
@@ -0,0 +1,53 @@
+package com.reliaquest.loadtest;
+
+import java.util.Map;
+import java.util.TreeMap;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Latencies and response statuses of one operation, recorded by a single client and merged afterwards.
+ */
+final class OperationStats {
+
+    /*
+     * Status recorded when no response was received at all.
+     */
+    static final int NO_RESPONSE = -1;
+
+    private final Histogram latencyMicros = new Histogram(3);
+
+    private final Map<Integer, Long> statuses = new TreeMap<>();
+
+    void record(long latencyNanos, int status) {
+        latencyMicros.recordValue(Math.max(1, latencyNanos / 1_000));
+        statuses.merge(status, 1L, Long::sum);
+    }
+
+    void add(OperationStats other) {
+        latencyMicros.add(other.latencyMicros);
+        other.statuses.forEach((status, count) -> statuses.merge(status, count, Long::sum));
+    }
+
+    long count() {
+        return latencyMicros.getTotalCount();
+    }
+
+    long failures() {
+        return statuses.entrySet().stream()
+                .filter(entry -> entry.getKey() < 200 || entry.getKey() >= 300)
+                .mapToLong(Map.Entry::getValue)
+                .sum();
+    }
+
+    double percentileMillis(double percentile) {
+        return count() == 0 ? 0 : latencyMicros.getValueAtPercentile(percentile) / 1_000.0;
+    }
+
+    double maxMillis() {
+        return count() == 0 ? 0 : latencyMicros.getMaxValue() / 1_000.0;
+    }
+
+    Map<Integer, Long> statuses() {
+        return statuses;
+    }
+}
@@ -0,0 +1,34 @@
+package com.reliaquest.loadtest;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Calls the api made to the mock server, read from the api's own metrics.
+ *
+ * @param calls     upstream calls that got a response
+ * @param throttled upstream calls answered with 429 Too Many Requests
+ * @param rejected  requests the api turned away itself, without calling upstream, while backing off
+ */
+record UpstreamStats(long calls, long throttled, long rejected) {
+
+    static UpstreamStats of(MeterRegistry registry) {
+        long calls = 0;
+        long throttled = 0;
+        for (Timer timer : registry.find("http.client.requests").timers()) {
+            // calls that never got a response, including the ones the api turned away, are tagged CLIENT_ERROR
+            String status = timer.getId().getTag("status");
+            if (status != null && status.chars().allMatch(Character::isDigit)) {
+                calls += timer.count();
+                throttled += "429".equals(status) ? timer.count() : 0;
+            }
+        }
+        FunctionCounter rejected = registry.find("employee.upstream.rejected").functionCounter();
+        return new UpstreamStats(calls, throttled, rejected == null ? 0 : (long) rejected.count());
+    }
+
+    UpstreamStats minus(UpstreamStats earlier) {
+        return new UpstreamStats(calls - earlier.calls, throttled - earlier.throttled, rejected - earlier.rejected);
+    }
+}
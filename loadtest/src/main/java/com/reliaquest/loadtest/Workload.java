@@ -0,0 +1,246 @@
+package com.reliaquest.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * Closed-loop mixed workload against the api's {@code /employee} endpoints: every client picks an
+ * operation by its weight in the mix, waits for the response and immediately issues the next one.
+ * <p>
+ * Reads and deletes target employees that exist: the ids and names of the initial roster, plus the ids
+ * of employees created along the way, are kept in a shared pool that deletes take their ids from.
+ */
+@Slf4j
+final class Workload {
+
+    private static final String[] TITLES = {"Engineer", "Designer", "Product Manager", "Analyst", "Recruiter"};
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient httpClient;
+
+    private final String employeeUrl;
+
+    private final LoadTestOptions options;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final Operation[] operations;
+
+    private final int[] cumulativeWeights;
+
+    private final List<String> ids = new ArrayList<>();
+
+    private final List<String> names = new ArrayList<>();
+
+    private final AtomicInteger runs = new AtomicInteger();
+
+    Workload(String employeeUrl, LoadTestOptions options) {
+        this.employeeUrl = employeeUrl;
+        this.options = options;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        this.operations = options.mix().keySet().toArray(Operation[]::new);
+        this.cumulativeWeights = new int[operations.length];
+        int total = 0;
+        for (int i = 0; i < operations.length; i++) {
+            total += options.mix().get(operations[i]);
+            cumulativeWeights[i] = total;
+        }
+    }
+
+    /*
+     * Reads the roster the reads and deletes are drawn from. The api may itself still be waiting out
+     * the mock server's rate limit, so this retries until it gets an answer.
+     */
+    void prepare(Duration timeout) throws IOException, InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (true) {
+            HttpResponse<byte[]> response =
+                    httpClient.send(request(employeeUrl).GET().build(), HttpResponse.BodyHandlers.ofByteArray());
+            if (response.statusCode() == 200) {
+                for (JsonNode employee : objectMapper.readTree(response.body())) {
+                    ids.add(employee.path("id").asText());
+                    names.add(employee.path("employee_name").asText());
+                }
+                return;
+            }
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException(
+                        "Could not read the roster from the api, last status was " + response.statusCode());
+            }
+            log.warn("Reading the roster returned {}, retrying", response.statusCode());
+            Thread.sleep(1_000);
+        }
+    }
+
+    int rosterSize() {
+        synchronized (ids) {
+            return ids.size();
+        }
+    }
+
+    /*
+     * Runs the workload with every client for the given time. Each run draws a different operation
+     * sequence, so a warmup doesn't replay the measured run, but repeated test runs draw the same ones.
+     */
+    Map<Operation, OperationStats> run(Duration duration) throws InterruptedException {
+        int run = runs.getAndIncrement();
+        long deadline = System.nanoTime() + duration.toNanos();
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("loadtest-client-");
+        threadFactory.setDaemon(true);
+        ExecutorService clients = Executors.newFixedThreadPool(options.concurrency(), threadFactory);
+        try {
+            List<Future<Map<Operation, OperationStats>>> results = new ArrayList<>();
+            for (int client = 0; client < options.concurrency(); client++) {
+                SplittableRandom random = new SplittableRandom(options.seed() + 1_000_003L * run + client);
+                results.add(clients.submit(() -> drive(random, deadline)));
+            }
+            Map<Operation, OperationStats> merged = new EnumMap<>(Operation.class);
+            for (Future<Map<Operation, OperationStats>> result : results) {
+                result.get().forEach((operation, stats) -> merged.computeIfAbsent(
+                                operation, ignored -> new OperationStats())
+                        .add(stats));
+            }
+            return merged;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Load test client failed", e.getCause());
+        } finally {
+            clients.shutdownNow();
+        }
+    }
+
+    private Map<Operation, OperationStats> drive(SplittableRandom random, long deadline) {
+        Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+        while (System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+            Operation operation = next(random);
+            HttpRequest request = request(operation, random);
+            long start = System.nanoTime();
+            int status;
+            try {
+                HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+                status = response.statusCode();
+                if (operation == Operation.CREATE && status / 100 == 2) {
+                    created(response.body());
+                }
+            } catch (IOException e) {
+                status = OperationStats.NO_RESPONSE;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            stats.computeIfAbsent(operation, ignored -> new OperationStats()).record(System.nanoTime() - start, status);
+        }
+        return stats;
+    }
+
+    private Operation next(SplittableRandom random) {
+        int pick = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (pick < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        throw new IllegalStateException("Weight " + pick + " out of range");
+    }
+
+    private HttpRequest request(Operation operation, SplittableRandom random) {
+        return switch (operation) {
+            case LIST -> request(employeeUrl).GET().build();
+            case BY_ID -> request(employeeUrl + "/" + anyId(random, false))
+                    .GET()
+                    .build();
+            case SEARCH -> request(employeeUrl + "/search/" + searchFragment(random))
+                    .GET()
+                    .build();
+            case HIGHEST_SALARY -> request(employeeUrl + "/highestSalary").GET().build();
+            case TOP_TEN -> request(employeeUrl + "/topTenHighestEarningEmployeeNames")
+                    .GET()
+                    .build();
+            case CREATE -> request(employeeUrl)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(newEmployee(random)))
+                    .build();
+            case DELETE -> request(employeeUrl + "/" + anyId(random, true))
+                    .DELETE()
+                    .build();
+        };
+    }
+
+    private HttpRequest.Builder request(String url) {
+        return HttpRequest.newBuilder(URI.create(url)).timeout(REQUEST_TIMEOUT).header("Accept", "application/json");
+    }
+
+    /*
+     * Falls back to an unknown id once every employee has been deleted, which the api answers with a 404.
+     */
+    private String anyId(SplittableRandom random, boolean remove) {
+        synchronized (ids) {
+            if (ids.isEmpty()) {
+                return UUID.randomUUID().toString();
+            }
+            int index = random.nextInt(ids.size());
+            if (!remove) {
+                return ids.get(index);
+            }
+            String id = ids.get(index);
+            ids.set(index, ids.get(ids.size() - 1));
+            ids.remove(ids.size() - 1);
+            return id;
+        }
+    }
+
+    private String searchFragment(SplittableRandom random) {
+        String name = names.isEmpty() ? "employee" : names.get(random.nextInt(names.size()));
+        int length = Math.min(3, name.length());
+        int start = random.nextInt(name.length() - length + 1);
+        return URLEncoder.encode(name.substring(start, start + length), StandardCharsets.UTF_8)
+                .replace("+", "%20");
+    }
+
+    private String newEmployee(SplittableRandom random) {
+        return objectMapper
+                .createObjectNode()
+                .put("name", "Load Test " + Long.toHexString(random.nextLong()))
+                .put("salary", random.nextInt(30_000, 500_000))
+                .put("age", random.nextInt(18, 70))
+                .put("title", TITLES[random.nextInt(TITLES.length)])
+                .toString();
+    }
+
+    private void created(byte[] body) {
+        try {
+            String id = objectMapper.readTree(body).path("id").asText(null);
+            if (id != null) {
+                synchronized (ids) {
+                    ids.add(id);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Could not read the created employee: {}", e.getMessage());
+        }
+    }
+}
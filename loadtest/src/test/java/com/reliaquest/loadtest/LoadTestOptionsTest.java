@@ -0,0 +1,74 @@
+package com.reliaquest.loadtest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class LoadTestOptionsTest {
+
+    @Test
+    void testDefaults() {
+        final var options = LoadTestOptions.parse();
+
+        assertEquals(Duration.ofSeconds(30), options.duration());
+        assertEquals(Duration.ofSeconds(10), options.warmup());
+        assertEquals(16, options.concurrency());
+        assertEquals(7, options.mix().size());
+        assertEquals(40, options.mix().get(Operation.BY_ID));
+        assertEquals(1000, options.employees());
+        assertEquals("random", options.rateLimit());
+    }
+
+    @Test
+    void testPrefixedPropertiesArePassedOnAndTakePrecedence() {
+        final var options = LoadTestOptions.parse(
+                "employees=50", "seed=7", "server.mock.employees.max=10", "api.employee.service.mode=reactive");
+
+        final var server = options.serverApplicationProperties();
+        assertEquals("10", server.get("mock.employees.max"));
+        assertEquals("7", server.get("mock.employees.seed"));
+        assertEquals("true", server.get("mock.rate-limit.enabled"));
+
+        final var api = options.apiApplicationProperties("http://localhost:1/api/v1/employee");
+        assertEquals("reactive", api.get("employee.service.mode"));
+        assertEquals("http://localhost:1/api/v1/employee", api.get("employee.upstream.http.base-url"));
+        assertFalse(api.containsKey("employee.upstream.rate-limit.enabled"));
+    }
+
+    @Test
+    void testRateLimitSettings() {
+        final var off = LoadTestOptions.parse("rateLimit=off");
+        assertEquals("false", off.serverApplicationProperties().get("mock.rate-limit.enabled"));
+        assertEquals("false", off.apiApplicationProperties("url").get("employee.upstream.rate-limit.enabled"));
+
+        final var fixed = LoadTestOptions.parse("rateLimit=100/5s").serverApplicationProperties();
+        assertEquals("true", fixed.get("mock.rate-limit.enabled"));
+        assertEquals("100", fixed.get("mock.rate-limit.max-requests"));
+        assertEquals("5s", fixed.get("mock.rate-limit.backoff"));
+
+        assertThrows(IllegalArgumentException.class, () -> LoadTestOptions.parse("rateLimit=100")
+                .serverApplicationProperties());
+    }
+
+    @Test
+    void testMixIsParsedInOperationOrder() {
+        final var options = LoadTestOptions.parse("mix=delete:1, list:3");
+
+        assertEquals(Map.of(Operation.LIST, 3, Operation.DELETE, 1), options.mix());
+        assertEquals(Operation.LIST, options.mix().keySet().iterator().next());
+    }
+
+    @Test
+    void testRejectsInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> LoadTestOptions.parse("duration"));
+        assertThrows(IllegalArgumentException.class, () -> LoadTestOptions.parse("threads=4"));
+        assertThrows(IllegalArgumentException.class, () -> LoadTestOptions.parse("concurrency=0"));
+        assertThrows(IllegalArgumentException.class, () -> LoadTestOptions.parse("mix=byId"));
+        assertThrows(IllegalArgumentException.class, () -> LoadTestOptions.parse("mix=fetch:1"));
+        assertThrows(IllegalArgumentException.class, () -> LoadTestOptions.parse("mix=byId:0"));
+    }
+}
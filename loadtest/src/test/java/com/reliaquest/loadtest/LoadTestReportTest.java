@@ -0,0 +1,75 @@
+package com.reliaquest.loadtest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class LoadTestReportTest {
+
+    @TempDir
+    private Path directory;
+
+    private LoadTestReport report() {
+        final var byId = new OperationStats();
+        byId.record(TimeUnit.MILLISECONDS.toNanos(2), 200);
+        byId.record(TimeUnit.MILLISECONDS.toNanos(4), 200);
+        final var create = new OperationStats();
+        create.record(TimeUnit.MILLISECONDS.toNanos(10), 429);
+        final var stats = new EnumMap<Operation, OperationStats>(Operation.class);
+        stats.put(Operation.BY_ID, byId);
+        stats.put(Operation.CREATE, create);
+        final var options = LoadTestOptions.parse("mix=byId:3,create:1", "api.employee.service.mode=reactive");
+        return LoadTestReport.of(options, Duration.ofSeconds(2), stats, new UpstreamStats(10, 3, 1));
+    }
+
+    @Test
+    void testReportsThroughputPerOperationAndInTotal() {
+        final var report = report();
+
+        assertEquals(2, report.operations().size());
+        assertEquals("byId", report.operations().get(0).operation());
+        assertEquals(1.0, report.operations().get(0).throughput(), 1e-9);
+        assertEquals(1, report.operations().get(1).failures());
+        assertEquals("total", report.total().operation());
+        assertEquals(3, report.total().requests());
+        assertEquals(1, report.total().failures());
+        assertEquals(10, report.total().maxMillis(), 0.01);
+    }
+
+    @Test
+    void testPrintsFailedStatuses() {
+        final var out = new ByteArrayOutputStream();
+
+        report().print(new PrintStream(out, true, StandardCharsets.UTF_8));
+
+        final var printed = out.toString(StandardCharsets.UTF_8);
+        assertTrue(printed.contains("upstream: 10 calls, 3 answered 429, 1 turned away"), printed);
+        assertTrue(printed.contains("create statuses: {429=1}"), printed);
+    }
+
+    @Test
+    void testWritesJson() throws IOException {
+        final var path = directory.resolve("reports").resolve("results.json");
+
+        report().write(path);
+
+        final var json = new ObjectMapper().readTree(path.toFile());
+        assertEquals(3, json.path("total").path("requests").asLong());
+        assertEquals(3, json.path("settings").path("mix").path("byId").asInt());
+        assertEquals(
+                "reactive",
+                json.path("settings").path("api").path("employee.service.mode").asText());
+        assertEquals(3, json.path("upstream").path("throttled").asLong());
+    }
+}
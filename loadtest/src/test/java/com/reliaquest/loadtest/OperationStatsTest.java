@@ -0,0 +1,62 @@
+package com.reliaquest.loadtest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class OperationStatsTest {
+
+    @Test
+    void testEmptyStatsReportZeroLatency() {
+        final var stats = new OperationStats();
+
+        assertEquals(0, stats.count());
+        assertEquals(0, stats.percentileMillis(99));
+        assertEquals(0, stats.maxMillis());
+    }
+
+    @Test
+    void testPercentilesAndFailures() {
+        final var stats = new OperationStats();
+        for (int millis = 1; millis <= 100; millis++) {
+            stats.record(TimeUnit.MILLISECONDS.toNanos(millis), millis <= 90 ? 200 : 429);
+        }
+        stats.record(TimeUnit.MILLISECONDS.toNanos(1), OperationStats.NO_RESPONSE);
+
+        assertEquals(101, stats.count());
+        assertEquals(11, stats.failures());
+        assertEquals(50, stats.percentileMillis(50), 0.1);
+        assertEquals(99, stats.percentileMillis(99), 0.1);
+        assertEquals(100, stats.maxMillis(), 0.1);
+        assertEquals(Map.of(-1, 1L, 200, 90L, 429, 10L), stats.statuses());
+    }
+
+    @Test
+    void testSubMicrosecondLatenciesAreRecorded() {
+        final var stats = new OperationStats();
+
+        stats.record(10, 204);
+
+        assertEquals(1, stats.count());
+        assertEquals(0.001, stats.maxMillis(), 1e-9);
+        assertEquals(0, stats.failures());
+    }
+
+    @Test
+    void testAddMergesLatenciesAndStatuses() {
+        final var first = new OperationStats();
+        first.record(TimeUnit.MILLISECONDS.toNanos(2), 200);
+        first.record(TimeUnit.MILLISECONDS.toNanos(4), 404);
+        final var second = new OperationStats();
+        second.record(TimeUnit.MILLISECONDS.toNanos(8), 404);
+
+        first.add(second);
+
+        assertEquals(3, first.count());
+        assertEquals(2, first.failures());
+        assertEquals(8, first.maxMillis(), 0.01);
+        assertEquals(Map.of(200, 1L, 404, 2L), first.statuses());
+    }
+}
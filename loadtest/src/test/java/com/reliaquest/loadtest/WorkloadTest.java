@@ -0,0 +1,117 @@
+package com.reliaquest.loadtest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class WorkloadTest {
+
+    private static final List<String> ROSTER_IDS = List.of(
+            UUID.randomUUID().toString(),
+            UUID.randomUUID().toString(),
+            UUID.randomUUID().toString());
+
+    private final List<String> requests = Collections.synchronizedList(new ArrayList<>());
+
+    private HttpServer server;
+
+    private String employeeUrl;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/employee", this::answer);
+        server.start();
+        employeeUrl = "http://localhost:" + server.getAddress().getPort() + "/employee";
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    private void answer(HttpExchange exchange) throws IOException {
+        final var method = exchange.getRequestMethod();
+        final var path = exchange.getRequestURI().getRawPath();
+        requests.add(method + " " + path);
+        String body = "{}";
+        if (method.equals("GET") && path.equals("/employee")) {
+            body = ROSTER_IDS.stream()
+                    .map(id -> "{\"id\":\"" + id + "\",\"employee_name\":\"Employee " + id.substring(0, 4) + "\"}")
+                    .reduce((left, right) -> left + "," + right)
+                    .map(employees -> "[" + employees + "]")
+                    .orElseThrow();
+        } else if (method.equals("POST")) {
+            body = "{\"id\":\"" + UUID.randomUUID() + "\"}";
+        }
+        final var bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        exchange.getResponseBody().write(bytes);
+        exchange.close();
+    }
+
+    @Test
+    void testDeletesTakeEveryRosterIdOnce() throws Exception {
+        final var workload = new Workload(employeeUrl, LoadTestOptions.parse("mix=delete:1", "concurrency=1"));
+        workload.prepare(Duration.ofSeconds(5));
+        assertEquals(3, workload.rosterSize());
+        requests.clear();
+
+        final var stats = workload.run(Duration.ofMillis(300));
+
+        assertEquals(Set.of(Operation.DELETE), stats.keySet());
+        assertEquals(requests.size(), stats.get(Operation.DELETE).count());
+        assertTrue(requests.size() > ROSTER_IDS.size(), "only " + requests.size() + " requests");
+        assertEquals(
+                Set.copyOf(
+                        ROSTER_IDS.stream().map(id -> "DELETE /employee/" + id).toList()),
+                Set.copyOf(requests.subList(0, ROSTER_IDS.size())));
+        assertEquals(requests.size(), Set.copyOf(requests).size());
+        assertEquals(0, workload.rosterSize());
+    }
+
+    @Test
+    void testCreatedEmployeesJoinTheRoster() throws Exception {
+        final var workload = new Workload(employeeUrl, LoadTestOptions.parse("mix=create:1", "concurrency=2"));
+        workload.prepare(Duration.ofSeconds(5));
+
+        final var stats = workload.run(Duration.ofMillis(300));
+
+        final var created = stats.get(Operation.CREATE).count();
+        assertTrue(created > 0);
+        assertEquals(0, stats.get(Operation.CREATE).failures());
+        assertEquals(ROSTER_IDS.size() + created, workload.rosterSize());
+    }
+
+    @Test
+    void testOperationsFollowTheMix() throws Exception {
+        final var workload = new Workload(employeeUrl, LoadTestOptions.parse("mix=byId:1,topTen:1", "concurrency=2"));
+        workload.prepare(Duration.ofSeconds(5));
+        requests.clear();
+
+        final var stats = workload.run(Duration.ofMillis(300));
+
+        assertEquals(Set.of(Operation.BY_ID, Operation.TOP_TEN), stats.keySet());
+        synchronized (requests) {
+            assertTrue(requests.stream()
+                    .allMatch(request -> request.equals("GET /employee/topTenHighestEarningEmployeeNames")
+                            || ROSTER_IDS.stream().anyMatch(id -> request.equals("GET /employee/" + id))));
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.reliaquest.server.config;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Binary file of a mock roster, so large fixtures are generated once and read back in a fraction of
+ * the time. The file starts with a magic number, a format version, the seed the roster was generated
+ * from and the employee count, followed by each employee's id as two longs, name, salary, age, title
+ * and email. Strings are modified UTF-8.
+ */
+public final class MockEmployeeDataset {
+
+    private static final int MAGIC = 0x4d454d50;
+
+    private static final int FORMAT_VERSION = 2;
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /**
+     * What a dataset was generated with, so a file made for other settings can be told apart.
+     */
+    public record Header(long seed, int size) {}
+
+    private MockEmployeeDataset() {}
+
+    public static Header readHeader(Path path) throws IOException {
+        try (final var input = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            return readHeader(input, path);
+        }
+    }
+
+    public static List<MockEmployee> read(Path path) throws IOException {
+        try (final var input = new DataInputStream(new BufferedInputStream(Files.newInputStream(path), BUFFER_SIZE))) {
+            final var header = readHeader(input, path);
+            final var employees = new ArrayList<MockEmployee>(header.size());
+            for (int i = 0; i < header.size(); i++) {
+                employees.add(new MockEmployee(
+                        new UUID(input.readLong(), input.readLong()),
+                        input.readUTF(),
+                        input.readInt(),
+                        input.readInt(),
+                        input.readUTF(),
+                        input.readUTF()));
+            }
+            return employees;
+        }
+    }
+
+    /*
+     * Written to a sibling file first and moved into place, so a reader never sees a partial dataset.
+     */
+    public static void write(Path path, long seed, List<MockEmployee> employees) throws IOException {
+        final var absolute = path.toAbsolutePath();
+        Files.createDirectories(absolute.getParent());
+        final var partial = absolute.resolveSibling(absolute.getFileName() + ".partial");
+        try (final var output =
+                new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(partial), BUFFER_SIZE))) {
+            output.writeInt(MAGIC);
+            output.writeInt(FORMAT_VERSION);
+            output.writeLong(seed);
+            output.writeInt(employees.size());
+            for (final var employee : employees) {
+                output.writeLong(employee.getId().getMostSignificantBits());
+                output.writeLong(employee.getId().getLeastSignificantBits());
+                output.writeUTF(employee.getName());
+                output.writeInt(employee.getSalary());
+                output.writeInt(employee.getAge());
+                output.writeUTF(employee.getTitle());
+                output.writeUTF(employee.getEmail());
+            }
+        }
+        Files.move(partial, absolute, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static Header readHeader(DataInputStream input, Path path) throws IOException {
+        if (input.readInt() != MAGIC || input.readInt() != FORMAT_VERSION) {
+            throw new IOException("Not a mock employee dataset (format " + FORMAT_VERSION + "): " + path);
+        }
+        return new Header(input.readLong(), input.readInt());
+    }
+}
@@ -0,0 +1,69 @@
+package com.reliaquest.server.config;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import net.datafaker.Faker;
+
+/**
+ * Generates the initial mock roster in fixed-size chunks, each from its own {@link Faker}. The chunks'
+ * seeds are drawn up front from a {@link SplittableRandom} seeded with the roster seed, so they are well
+ * mixed rather than neighbouring values of one generator. Chunks are generated in parallel, yet the roster
+ * only depends on the seed, the locale and its size, never on the number of threads or the order they run in.
+ */
+public class MockEmployeeGenerator {
+
+    private static final int CHUNK_SIZE = 4096;
+
+    private final Locale locale;
+    private final long seed;
+
+    public MockEmployeeGenerator(Locale locale, long seed) {
+        this.locale = locale;
+        this.seed = seed;
+    }
+
+    public List<MockEmployee> generate(int count) {
+        final var chunks = (count + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        final var chunkSeeds = new SplittableRandom(seed).longs(chunks).toArray();
+        final var generated = IntStream.range(0, chunks)
+                .parallel()
+                .mapToObj(chunk -> generateChunk(chunkSeeds[chunk], Math.min(CHUNK_SIZE, count - chunk * CHUNK_SIZE)))
+                .toList();
+        final var employees = new ArrayList<MockEmployee>(count);
+        generated.forEach(employees::addAll);
+        return employees;
+    }
+
+    private List<MockEmployee> generateChunk(long chunkSeed, int size) {
+        final var random = new Random(chunkSeed);
+        final var faker = new Faker(locale, random);
+        final var employees = new ArrayList<MockEmployee>(size);
+        for (int i = 0; i < size; i++) {
+            employees.add(MockEmployee.builder()
+                    .id(randomUuid(random))
+                    .name(faker.name().fullName())
+                    .salary(faker.number().numberBetween(30000, 500000))
+                    .age(faker.number().numberBetween(16, 70))
+                    .title(faker.job().title())
+                    .email(ServerConfiguration.EMAIL_TEMPLATE.formatted(
+                            faker.twitter().userName().toLowerCase(Locale.ROOT)))
+                    .build());
+        }
+        return employees;
+    }
+
+    /*
+     * A version 4 (random) UUID drawn from the seeded generator, unlike UUID.randomUUID().
+     */
+    private static UUID randomUuid(Random random) {
+        final var mostSignificantBits = (random.nextLong() & ~0xF000L) | 0x4000L;
+        final var leastSignificantBits = (random.nextLong() & ~(0xC000L << 48)) | (0x8000L << 48);
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+}
@@ -2,17 +2,16 @@ package com.reliaquest.server.config;
 
 import com.reliaquest.server.model.MockEmployee;
 import com.reliaquest.server.web.RandomRequestLimitInterceptor;
-import java.util.ArrayList;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.List;
 import java.util.Locale;
-import java.util.UUID;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
 import net.datafaker.Faker;
-import net.datafaker.transformations.Field;
-import net.datafaker.transformations.JavaObjectTransformer;
-import net.datafaker.transformations.Schema;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -25,35 +24,100 @@ public class ServerConfiguration implements WebMvcConfigurer {
 
     public static final String EMAIL_TEMPLATE = "%s@company.com";
 
+    private static final int LOGGED_EMPLOYEES_MAX = 1000;
+
+    /*
+     * Fixed rather than the platform default, so a seed reproduces the same roster on every machine.
+     */
+    private static final Locale ROSTER_LOCALE = Locale.US;
+
+    @Value("${mock.rate-limit.enabled:true}")
+    private boolean rateLimitEnabled;
+
+    /*
+     * When either is unset (<= 0) the interceptor picks a random limit and backoff on startup.
+     */
+    @Value("${mock.rate-limit.max-requests:0}")
+    private int rateLimitMaxRequests;
+
+    @Value("${mock.rate-limit.backoff:0s}")
+    private Duration rateLimitBackoff;
+
     @Bean
     public Faker faker() {
         return new Faker(Locale.getDefault());
     }
 
     /*
-     * This list is modifiable by design for CRUD operations.
+     * The initial roster; MockEmployeeService indexes it into a MockEmployeeStore, which all CRUD operations go through.
+     * Read from mock.employees.dataset if that file holds a roster of mock.employees.max employees generated from
+     * mock.employees.seed (any seed if unset); otherwise generated, and then written there if it is set.
+     * Without mock.employees.seed a random seed is used, logged so the roster can be reproduced.
      */
     @Bean
-    public List<MockEmployee> mockEmployees(Faker faker, @Value("${mock.employees.max:20}") int maxEmployees) {
-        final var transformer = new JavaObjectTransformer();
-        final var schema = Schema.of(
-                Field.field("id", UUID::randomUUID),
-                Field.field("name", () -> faker.name().fullName()),
-                Field.field("salary", () -> faker.number().numberBetween(30000, 500000)),
-                Field.field("age", () -> faker.number().numberBetween(16, 70)),
-                Field.field("title", () -> faker.job().title()),
-                Field.field(
-                        "email",
-                        () -> EMAIL_TEMPLATE.formatted(
-                                faker.twitter().userName().toLowerCase())));
-        return IntStream.rangeClosed(1, maxEmployees)
-                .mapToObj(ignored -> (MockEmployee) transformer.apply(MockEmployee.class, schema))
-                .peek(mockEmployee -> log.debug("Created employee: {}", mockEmployee))
-                .collect(Collectors.toCollection(ArrayList::new));
+    public List<MockEmployee> mockEmployees(
+            @Value("${mock.employees.max:20}") int maxEmployees,
+            @Value("${mock.employees.seed:#{null}}") Long seed,
+            @Value("${mock.employees.dataset:}") String dataset)
+            throws IOException {
+        final var datasetPath = dataset.isBlank() ? null : Path.of(dataset);
+        final var started = System.nanoTime();
+        if (datasetPath != null && Files.exists(datasetPath)) {
+            final var header = MockEmployeeDataset.readHeader(datasetPath);
+            if (header.size() == maxEmployees && (seed == null || seed == header.seed())) {
+                final var employees = MockEmployeeDataset.read(datasetPath);
+                log.info(
+                        "Loaded {} employees with seed {} from {} in {} ms",
+                        employees.size(),
+                        header.seed(),
+                        datasetPath,
+                        elapsedMillis(started));
+                logEach(employees);
+                return employees;
+            }
+            log.warn(
+                    "Dataset {} holds {} employees with seed {}, regenerating it for mock.employees.max {} and seed {}",
+                    datasetPath,
+                    header.size(),
+                    header.seed(),
+                    maxEmployees,
+                    seed == null ? "(random)" : seed);
+        }
+        final var rosterSeed = seed == null ? ThreadLocalRandom.current().nextLong() : seed;
+        final var employees = new MockEmployeeGenerator(ROSTER_LOCALE, rosterSeed).generate(maxEmployees);
+        log.info("Generated {} employees with seed {} in {} ms", employees.size(), rosterSeed, elapsedMillis(started));
+        if (datasetPath != null) {
+            MockEmployeeDataset.write(datasetPath, rosterSeed, employees);
+            log.info("Wrote {} employees to {}", employees.size(), datasetPath);
+        }
+        logEach(employees);
+        return employees;
+    }
+
+    /*
+     * Large rosters are only summarized; logging every employee would dominate startup.
+     */
+    private static void logEach(List<MockEmployee> employees) {
+        if (log.isDebugEnabled() && employees.size() <= LOGGED_EMPLOYEES_MAX) {
+            employees.forEach(mockEmployee -> log.debug("Created employee: {}", mockEmployee));
+        }
+    }
+
+    private static long elapsedMillis(long startedNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedNanos);
     }
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
+        if (!rateLimitEnabled) {
+            log.warn("Request rate limiting is disabled");
+            return;
+        }
+        if (rateLimitMaxRequests > 0 && rateLimitBackoff.compareTo(Duration.ZERO) > 0) {
+            log.info("Rate limiting to {} requests, then backing off for {}", rateLimitMaxRequests, rateLimitBackoff);
+            registry.addInterceptor(new RandomRequestLimitInterceptor(rateLimitMaxRequests, rateLimitBackoff));
+            return;
+        }
         registry.addInterceptor(new RandomRequestLimitInterceptor());
     }
 }
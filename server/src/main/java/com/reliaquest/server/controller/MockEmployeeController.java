@@ -9,6 +9,7 @@ import jakarta.validation.Valid;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -17,7 +18,9 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/v1/employee")
@@ -26,9 +29,29 @@ public class MockEmployeeController {
 
     private final MockEmployeeService mockEmployeeService;
 
+    @Value("${mock.employees.page-size.max:10000}")
+    private int maxPageSize;
+
+    /*
+     * Without limit or after the whole roster is returned, as before paging existed. Otherwise one page
+     * of at most mock.employees.page-size.max employees in id order; "next" is the following page's "after".
+     * Every response is read at a single roster version and carries it as its ETag, so a 304 for
+     * If-None-Match on the first page means the whole roster is unchanged.
+     */
     @GetMapping()
-    public Response<List<MockEmployee>> getEmployees() {
-        return Response.handledWith(mockEmployeeService.getMockEmployees());
+    public Response<List<MockEmployee>> getEmployees(
+            @RequestParam(name = "limit", required = false) Integer limit,
+            @RequestParam(name = "after", required = false) UUID after,
+            WebRequest request) {
+        final var page = limit == null && after == null
+                ? mockEmployeeService.getMockEmployees()
+                : mockEmployeeService.getMockEmployeesPage(
+                        after, limit == null ? maxPageSize : Math.max(1, Math.min(limit, maxPageSize)));
+        if (request.checkNotModified('"' + mockEmployeeService.getVersionTag(page.version()) + '"')) {
+            return null;
+        }
+        return Response.handledWith(
+                page.employees(), page.next() == null ? null : page.next().toString());
     }
 
     @GetMapping("/{id}")
@@ -0,0 +1,9 @@
+package com.reliaquest.server.model;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Employees in id order as of one store version; {@code next} is the id to continue after, or null on the last page.
+ */
+public record MockEmployeePage(List<MockEmployee> employees, UUID next, long version) {}
@@ -5,18 +5,25 @@ import com.fasterxml.jackson.annotation.JsonValue;
 import lombok.Getter;
 
 @JsonInclude(JsonInclude.Include.NON_NULL)
-public record Response<T>(T data, Status status, String error) {
+public record Response<T>(T data, Status status, String error, String next) {
 
     public static <T> Response<T> handled() {
-        return new Response<>(null, Status.HANDLED, null);
+        return new Response<>(null, Status.HANDLED, null, null);
     }
 
     public static <T> Response<T> handledWith(T data) {
-        return new Response<>(data, Status.HANDLED, null);
+        return new Response<>(data, Status.HANDLED, null, null);
+    }
+
+    /*
+     * The cursor to pass as the next request's "after", or null on the last page.
+     */
+    public static <T> Response<T> handledWith(T data, String next) {
+        return new Response<>(data, Status.HANDLED, null, next);
     }
 
     public static <T> Response<T> error(String error) {
-        return new Response<>(null, Status.ERROR, error);
+        return new Response<>(null, Status.ERROR, error, null);
     }
 
     public enum Status {
@@ -4,32 +4,58 @@ import com.reliaquest.server.config.ServerConfiguration;
 import com.reliaquest.server.model.CreateMockEmployeeInput;
 import com.reliaquest.server.model.DeleteMockEmployeeInput;
 import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeePage;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
-import lombok.Getter;
+import java.util.concurrent.ThreadLocalRandom;
 import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.datafaker.Faker;
 import org.springframework.stereotype.Service;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class MockEmployeeService {
 
     private final Faker faker;
 
-    @Getter
-    private final List<MockEmployee> mockEmployees;
+    private final MockEmployeeStore store;
+
+    /*
+     * Versions restart on every boot along with the data, so they are only comparable within one epoch.
+     */
+    private final long epoch = ThreadLocalRandom.current().nextLong() >>> 1;
+
+    public MockEmployeeService(Faker faker, List<MockEmployee> mockEmployees) {
+        this.faker = faker;
+        this.store = new MockEmployeeStore(mockEmployees);
+    }
+
+    /**
+     * Returns all employees in id order, as of a single version.
+     */
+    public MockEmployeePage getMockEmployees() {
+        return store.snapshot();
+    }
+
+    /**
+     * Returns a tag for the given store version that changes with every create and delete, and across restarts.
+     */
+    public String getVersionTag(long version) {
+        return Long.toHexString(epoch) + "-" + version;
+    }
+
+    /**
+     * Returns up to {@code limit} employees in id order, starting after the given id.
+     */
+    public MockEmployeePage getMockEmployeesPage(UUID after, int limit) {
+        return store.page(after, limit);
+    }
 
     public Optional<MockEmployee> findById(@NonNull UUID uuid) {
-        return mockEmployees.stream()
-                .filter(mockEmployee -> Objects.nonNull(mockEmployee.getId())
-                        && mockEmployee.getId().equals(uuid))
-                .findFirst();
+        return store.findById(uuid);
     }
 
     public MockEmployee create(@NonNull CreateMockEmployeeInput input) {
@@ -37,22 +63,17 @@ public class MockEmployeeService {
                 ServerConfiguration.EMAIL_TEMPLATE.formatted(
                         faker.twitter().userName().toLowerCase()),
                 input);
-        mockEmployees.add(mockEmployee);
+        store.add(mockEmployee);
         log.debug("Added employee: {}", mockEmployee);
         return mockEmployee;
     }
 
     public boolean delete(@NonNull DeleteMockEmployeeInput input) {
-        final var mockEmployee = mockEmployees.stream()
-                .filter(employee -> Objects.nonNull(employee.getName())
-                        && employee.getName().equalsIgnoreCase(input.getName()))
-                .findFirst();
-        if (mockEmployee.isPresent()) {
-            mockEmployees.remove(mockEmployee.get());
-            log.debug("Removed employee: {}", mockEmployee.get());
-            return true;
+        if (Objects.isNull(input.getName())) {
+            return false;
         }
-
-        return false;
+        final var mockEmployee = store.removeByName(input.getName());
+        mockEmployee.ifPresent(employee -> log.debug("Removed employee: {}", employee));
+        return mockEmployee.isPresent();
     }
 }
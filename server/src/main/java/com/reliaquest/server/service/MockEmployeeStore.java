@@ -0,0 +1,196 @@
+package com.reliaquest.server.service;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeePage;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.NonNull;
+
+/**
+ * Thread-safe store of the mock employees. Writers are serialized by a lock; readers never take it
+ * in the common case. Lookups by id read a concurrent map directly. Listings and pages are copied
+ * out of the id-ordered index between two reads of a sequence counter, which every write makes odd
+ * while in progress and even again when done; an unchanged, even counter proves no write overlapped
+ * the copy, so each response is a point-in-time view of a single version. A reader that keeps
+ * losing against writers falls back to the lock.
+ */
+public final class MockEmployeeStore {
+
+    private static final int OPTIMISTIC_READ_ATTEMPTS = 8;
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    private volatile long sequence;
+
+    private final Map<UUID, MockEmployee> employeesById = new ConcurrentHashMap<>();
+
+    /*
+     * Employees per case-folded name, oldest first, as a delete by name removes the oldest match.
+     * Only changed under the write lock.
+     */
+    private final Map<String, Deque<MockEmployee>> employeesByName = new ConcurrentHashMap<>();
+
+    /*
+     * The same employees ordered by id, so a page continues after a cursor without rescanning the roster.
+     */
+    private final ConcurrentNavigableMap<UUID, MockEmployee> employeesInIdOrder = new ConcurrentSkipListMap<>();
+
+    /*
+     * The full listing, built at most once per version and shared by every reader of that version.
+     */
+    private final AtomicReference<MockEmployeePage> snapshot =
+            new AtomicReference<>(new MockEmployeePage(List.of(), null, -1));
+
+    public MockEmployeeStore(List<MockEmployee> employees) {
+        employees.stream().filter(employee -> Objects.nonNull(employee.getId())).forEach(this::index);
+    }
+
+    /**
+     * Returns the store's version, which increases with every create and every delete that removes an employee.
+     */
+    public long getVersion() {
+        return sequence >>> 1;
+    }
+
+    public Optional<MockEmployee> findById(@NonNull UUID id) {
+        return Optional.ofNullable(employeesById.get(id));
+    }
+
+    /**
+     * Returns every employee in id order, as of a single version.
+     */
+    public MockEmployeePage snapshot() {
+        final var current = snapshot.get();
+        final long observed = sequence;
+        if ((observed & 1) == 0 && current.version() == observed >>> 1) {
+            return current;
+        }
+        final var built =
+                read(version -> new MockEmployeePage(List.copyOf(employeesInIdOrder.values()), null, version));
+        // readers of different versions may finish in any order; never replace a newer snapshot
+        snapshot.accumulateAndGet(
+                built, (shared, candidate) -> candidate.version() > shared.version() ? candidate : shared);
+        return built;
+    }
+
+    /**
+     * Returns up to {@code limit} employees in id order after the given id, as of a single version.
+     * Employees created or deleted between pages are seen or skipped depending on their id.
+     */
+    public MockEmployeePage page(UUID after, int limit) {
+        return read(version -> {
+            final var remaining = after == null
+                    ? employeesInIdOrder.values()
+                    : employeesInIdOrder.tailMap(after, false).values();
+            final var page = new ArrayList<MockEmployee>(Math.min(limit, employeesById.size()));
+            final var iterator = remaining.iterator();
+            while (page.size() < limit && iterator.hasNext()) {
+                page.add(iterator.next());
+            }
+            final var next = iterator.hasNext() ? page.get(page.size() - 1).getId() : null;
+            return new MockEmployeePage(List.copyOf(page), next, version);
+        });
+    }
+
+    public void add(@NonNull MockEmployee employee) {
+        writeLock.lock();
+        try {
+            publish(() -> index(employee));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Removes the oldest employee with the given name, ignoring case. The version only changes if one is found.
+     */
+    public Optional<MockEmployee> removeByName(@NonNull String name) {
+        final var key = foldName(name);
+        writeLock.lock();
+        try {
+            final var named = employeesByName.get(key);
+            if (named == null) {
+                return Optional.empty();
+            }
+            final var employee = named.peekFirst();
+            publish(() -> {
+                named.pollFirst();
+                if (named.isEmpty()) {
+                    employeesByName.remove(key);
+                }
+                employeesById.remove(employee.getId());
+                employeesInIdOrder.remove(employee.getId());
+            });
+            return Optional.of(employee);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /*
+     * Applies a change under the write lock, with the sequence odd while it is in progress.
+     */
+    private void publish(Runnable change) {
+        sequence++;
+        try {
+            change.run();
+        } finally {
+            sequence++;
+        }
+    }
+
+    private MockEmployeePage read(VersionedRead read) {
+        for (int attempt = 0; attempt < OPTIMISTIC_READ_ATTEMPTS; attempt++) {
+            final long before = sequence;
+            if ((before & 1) != 0) {
+                Thread.onSpinWait();
+                continue;
+            }
+            final var result = read.at(before >>> 1);
+            if (sequence == before) {
+                return result;
+            }
+        }
+        writeLock.lock();
+        try {
+            return read.at(getVersion());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /*
+     * Only called while no reader can observe the store yet, or under the write lock.
+     */
+    private void index(MockEmployee employee) {
+        employeesById.put(employee.getId(), employee);
+        employeesInIdOrder.put(employee.getId(), employee);
+        if (Objects.nonNull(employee.getName())) {
+            employeesByName
+                    .computeIfAbsent(foldName(employee.getName()), ignored -> new ArrayDeque<>(1))
+                    .addLast(employee);
+        }
+    }
+
+    private static String foldName(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    @FunctionalInterface
+    private interface VersionedRead {
+
+        MockEmployeePage at(long version);
+    }
+}
@@ -12,24 +12,33 @@ import org.springframework.web.servlet.HandlerInterceptor;
 
 public class RandomRequestLimitInterceptor implements HandlerInterceptor {
 
-    private static final int REQUEST_LIMIT = RandomGenerator.getDefault().nextInt(5, 10);
-    private static final Duration REQUEST_BACKOFF_DURATION =
-            Duration.ofSeconds(RandomGenerator.getDefault().nextInt(30, 90));
+    private final int maxRequests;
+    private final Duration backoffDuration;
 
     private final AtomicReference<RequestLimit> requestLimit = new AtomicReference<>(RequestLimit.init());
 
+    /*
+     * Random limit of 5-9 requests followed by a random 30-89 second backoff.
+     */
+    public RandomRequestLimitInterceptor() {
+        this(
+                RandomGenerator.getDefault().nextInt(5, 10),
+                Duration.ofSeconds(RandomGenerator.getDefault().nextInt(30, 90)));
+    }
+
+    public RandomRequestLimitInterceptor(int maxRequests, Duration backoffDuration) {
+        this.maxRequests = maxRequests;
+        this.backoffDuration = backoffDuration;
+    }
+
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
-        if (requestLimit.get().getCount() >= REQUEST_LIMIT) {
-            if (Instant.now()
-                    .minus(REQUEST_BACKOFF_DURATION)
-                    .isBefore(requestLimit.get().getLastRequested())) {
+        if (requestLimit.get().getCount() >= maxRequests) {
+            if (Instant.now().minus(backoffDuration).isBefore(requestLimit.get().getLastRequested())) {
                 response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
                 return false;
             }
-            if (Instant.now()
-                    .minus(REQUEST_BACKOFF_DURATION)
-                    .isAfter(requestLimit.get().getLastRequested())) {
+            if (Instant.now().minus(backoffDuration).isAfter(requestLimit.get().getLastRequested())) {
                 requestLimit.set(RequestLimit.init());
             }
         } else {
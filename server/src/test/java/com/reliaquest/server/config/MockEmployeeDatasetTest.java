@@ -0,0 +1,39 @@
+package com.reliaquest.server.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MockEmployeeDatasetTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void testWrittenRosterReadsBackUnchanged() throws IOException {
+        final var roster = new MockEmployeeGenerator(Locale.US, 7).generate(1000);
+        final var path = directory.resolve("nested").resolve("employees.bin");
+
+        MockEmployeeDataset.write(path, 7, roster);
+
+        assertEquals(roster, MockEmployeeDataset.read(path));
+        assertEquals(new MockEmployeeDataset.Header(7, 1000), MockEmployeeDataset.readHeader(path));
+        assertFalse(Files.exists(path.resolveSibling("employees.bin.partial")));
+    }
+
+    @Test
+    void testRejectsOtherFiles() throws IOException {
+        final var path = directory.resolve("employees.bin");
+        Files.writeString(path, "not a dataset");
+
+        assertThrows(IOException.class, () -> MockEmployeeDataset.read(path));
+        assertThrows(IOException.class, () -> MockEmployeeDataset.readHeader(path));
+    }
+}
@@ -0,0 +1,44 @@
+package com.reliaquest.server.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.reliaquest.server.model.MockEmployee;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+class MockEmployeeGeneratorTest {
+
+    private static final int CHUNK_SIZE = 4096;
+
+    @Test
+    void testSameSeedGivesSameRoster() {
+        // several chunks, with a partial last one
+        final var count = 2 * CHUNK_SIZE + 100;
+        final var roster = new MockEmployeeGenerator(Locale.US, 7).generate(count);
+
+        assertEquals(count, roster.size());
+        assertEquals(roster, new MockEmployeeGenerator(Locale.US, 7).generate(count));
+        assertEquals(count, ids(roster).size());
+    }
+
+    @Test
+    void testNeighbouringSeedsShareNoChunks() {
+        // with chunk seeds derived linearly from (seed, chunk), chunk 31 of seed 7 would repeat chunk 0 of seed 8
+        final var roster = new MockEmployeeGenerator(Locale.US, 7).generate(32 * CHUNK_SIZE);
+        final var neighbour = new MockEmployeeGenerator(Locale.US, 8).generate(CHUNK_SIZE);
+
+        final Set<UUID> shared = new HashSet<>(ids(roster));
+        shared.retainAll(ids(neighbour));
+        assertTrue(shared.isEmpty());
+    }
+
+    private static Set<UUID> ids(List<MockEmployee> employees) {
+        return employees.stream().map(MockEmployee::getId).collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,66 @@
+package com.reliaquest.server.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Locale;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ServerConfigurationTest {
+
+    @TempDir
+    private Path directory;
+
+    private final ServerConfiguration configuration = new ServerConfiguration();
+
+    @Test
+    void testDatasetOfTheConfiguredSeedAndSizeIsReadBack() throws IOException {
+        final var path = directory.resolve("employees.bin");
+        // a roster the generator would not produce for seed 7, so reading it back is observable
+        final var stored = new MockEmployeeGenerator(Locale.US, 8).generate(10);
+        MockEmployeeDataset.write(path, 7, stored);
+
+        assertEquals(stored, configuration.mockEmployees(10, 7L, path.toString()));
+    }
+
+    @Test
+    void testDatasetOfAnotherSeedIsRegenerated() throws IOException {
+        final var path = directory.resolve("employees.bin");
+        MockEmployeeDataset.write(path, 8, new MockEmployeeGenerator(Locale.US, 8).generate(10));
+
+        final var employees = configuration.mockEmployees(10, 7L, path.toString());
+
+        assertEquals(new MockEmployeeGenerator(Locale.US, 7).generate(10), employees);
+        assertEquals(new MockEmployeeDataset.Header(7, 10), MockEmployeeDataset.readHeader(path));
+        assertEquals(employees, MockEmployeeDataset.read(path));
+    }
+
+    @Test
+    void testDatasetOfAnotherSizeIsRegenerated() throws IOException {
+        final var path = directory.resolve("employees.bin");
+        MockEmployeeDataset.write(path, 7, new MockEmployeeGenerator(Locale.US, 7).generate(5));
+
+        assertEquals(10, configuration.mockEmployees(10, null, path.toString()).size());
+        assertEquals(10, MockEmployeeDataset.readHeader(path).size());
+    }
+
+    @Test
+    void testWithoutSeedAnyDatasetSeedIsAccepted() throws IOException {
+        final var path = directory.resolve("employees.bin");
+        final var stored = new MockEmployeeGenerator(Locale.US, 8).generate(10);
+        MockEmployeeDataset.write(path, 8, stored);
+
+        assertEquals(stored, configuration.mockEmployees(10, null, path.toString()));
+    }
+
+    @Test
+    void testGeneratedEmailsUseTheConfiguredTemplate() {
+        final var suffix = ServerConfiguration.EMAIL_TEMPLATE.formatted("");
+
+        assertTrue(new MockEmployeeGenerator(Locale.US, 7)
+                .generate(100).stream().allMatch(employee -> employee.getEmail().endsWith(suffix)));
+    }
+}
@@ -0,0 +1,118 @@
+package com.reliaquest.server.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.reliaquest.server.model.CreateMockEmployeeInput;
+import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import com.reliaquest.server.model.MockEmployee;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MockEmployeeServiceTest {
+
+    private MockEmployee olderAlice;
+    private MockEmployee newerAlice;
+
+    private MockEmployeeService employeeService;
+
+    @BeforeEach
+    void setUp() {
+        olderAlice = employee("Alice Smith");
+        newerAlice = employee("alice smith");
+        final var others = IntStream.range(0, 20).mapToObj(i -> employee("Employee " + i));
+        employeeService = new MockEmployeeService(
+                new Faker(Locale.US),
+                Stream.concat(Stream.of(olderAlice, newerAlice), others).toList());
+    }
+
+    @Test
+    void testFindsById() {
+        assertEquals(Optional.of(newerAlice), employeeService.findById(newerAlice.getId()));
+        assertEquals(Optional.empty(), employeeService.findById(UUID.randomUUID()));
+    }
+
+    @Test
+    void testDeleteRemovesOldestMatchIgnoringCase() {
+        assertTrue(employeeService.delete(deleteInput("ALICE SMITH")));
+
+        assertEquals(Optional.empty(), employeeService.findById(olderAlice.getId()));
+        assertEquals(Optional.of(newerAlice), employeeService.findById(newerAlice.getId()));
+
+        assertTrue(employeeService.delete(deleteInput("Alice Smith")));
+        assertFalse(employeeService.delete(deleteInput("Alice Smith")));
+        assertEquals(20, listing().size());
+    }
+
+    @Test
+    void testListingIsInIdOrder() {
+        final var created = employeeService.create(createInput("Carol Stone"));
+
+        final var listing = listing();
+
+        assertEquals(23, listing.size());
+        assertTrue(listing.contains(created));
+        assertEquals(
+                listing.stream()
+                        .sorted(Comparator.comparing(MockEmployee::getId))
+                        .toList(),
+                listing);
+    }
+
+    @Test
+    void testVersionTagChangesOnWrites() {
+        final var initial = versionTag();
+
+        employeeService.create(createInput("Carol Stone"));
+        final var afterCreate = versionTag();
+        employeeService.delete(deleteInput("Carol Stone"));
+
+        assertNotEquals(initial, afterCreate);
+        assertNotEquals(afterCreate, versionTag());
+    }
+
+    private List<MockEmployee> listing() {
+        return employeeService.getMockEmployees().employees();
+    }
+
+    private String versionTag() {
+        final var listing = employeeService.getMockEmployees();
+        return employeeService.getVersionTag(listing.version());
+    }
+
+    private static MockEmployee employee(String name) {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(100000)
+                .age(30)
+                .title("Engineer")
+                .email("employee@company.com")
+                .build();
+    }
+
+    private static CreateMockEmployeeInput createInput(String name) {
+        final var input = new CreateMockEmployeeInput();
+        input.setName(name);
+        input.setSalary(100000);
+        input.setAge(30);
+        input.setTitle("Engineer");
+        return input;
+    }
+
+    private static DeleteMockEmployeeInput deleteInput(String name) {
+        final var input = new DeleteMockEmployeeInput();
+        input.setName(name);
+        return input;
+    }
+}
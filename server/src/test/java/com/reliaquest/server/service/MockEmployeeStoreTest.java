@@ -0,0 +1,199 @@
+package com.reliaquest.server.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.reliaquest.server.model.MockEmployee;
+import com.reliaquest.server.model.MockEmployeePage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class MockEmployeeStoreTest {
+
+    private static final int INITIAL_EMPLOYEES = 500;
+
+    private static final int WRITES = 5000;
+
+    private static final int READERS = 4;
+
+    private static final int PAGE_SIZE = 50;
+
+    @Test
+    void testSnapshotIsSharedWithinAVersion() {
+        final var store = new MockEmployeeStore(List.of(employee("Alice Smith"), employee("Bob Stone")));
+
+        final var snapshot = store.snapshot();
+        assertSame(snapshot, store.snapshot());
+        assertEquals(store.getVersion(), snapshot.version());
+
+        store.add(employee("Carol Stone"));
+        final var next = store.snapshot();
+        assertEquals(snapshot.version() + 1, next.version());
+        assertEquals(3, next.employees().size());
+        assertEquals(2, snapshot.employees().size());
+    }
+
+    @Test
+    void testRemovingUnknownNameKeepsVersion() {
+        final var store = new MockEmployeeStore(List.of(employee("Alice Smith")));
+        final var version = store.getVersion();
+
+        assertEquals(Optional.empty(), store.removeByName("Nobody"));
+        assertEquals(version, store.getVersion());
+
+        assertTrue(store.removeByName("ALICE SMITH").isPresent());
+        assertEquals(version + 1, store.getVersion());
+    }
+
+    /*
+     * A single writer creates and deletes while readers take snapshots and pages. The writer records the
+     * ids each version will hold before committing it, so every read can be checked against its version.
+     */
+    @Test
+    void testReadsSeeCommittedVersions() throws Exception {
+        final NavigableMap<UUID, MockEmployee> model = new TreeMap<>();
+        for (int i = 0; i < INITIAL_EMPLOYEES; i++) {
+            final var employee = employee("Initial " + i);
+            model.put(employee.getId(), employee);
+        }
+        final var store = new MockEmployeeStore(List.copyOf(model.values()));
+        final Map<Long, List<UUID>> committed = new ConcurrentHashMap<>();
+        committed.put(store.getVersion(), List.copyOf(model.keySet()));
+        final List<UUID> cursors = List.copyOf(model.keySet());
+
+        final Queue<String> failures = new ConcurrentLinkedQueue<>();
+        final var writing = new AtomicBoolean(true);
+        final var reads = new AtomicLong();
+        final ExecutorService executor = Executors.newFixedThreadPool(READERS + 1);
+        try {
+            final List<Future<?>> readers = new ArrayList<>();
+            for (int r = 0; r < READERS; r++) {
+                final var random = new Random(r);
+                readers.add(executor.submit(() -> {
+                    while (writing.get() && failures.isEmpty()) {
+                        if (random.nextBoolean()) {
+                            verifySnapshot(store.snapshot(), committed, failures);
+                        } else {
+                            final var after =
+                                    random.nextInt(4) == 0 ? null : cursors.get(random.nextInt(cursors.size()));
+                            verifyPage(store.page(after, PAGE_SIZE), after, committed, failures);
+                        }
+                        reads.incrementAndGet();
+                    }
+                }));
+            }
+            final Future<?> writer = executor.submit(() -> {
+                try {
+                    write(store, model, committed, failures);
+                } finally {
+                    writing.set(false);
+                }
+            });
+            writer.get(60, TimeUnit.SECONDS);
+            for (final var reader : readers) {
+                reader.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertTrue(failures.isEmpty(), () -> String.join("\n", failures));
+        assertTrue(reads.get() > 0);
+        assertEquals(List.copyOf(model.keySet()), ids(store.snapshot().employees()));
+    }
+
+    private static void write(
+            MockEmployeeStore store,
+            NavigableMap<UUID, MockEmployee> model,
+            Map<Long, List<UUID>> committed,
+            Queue<String> failures) {
+        final var random = new Random(42);
+        for (int i = 0; i < WRITES && failures.isEmpty(); i++) {
+            final var version = store.getVersion();
+            final var choice = random.nextInt(5);
+            if (choice == 0) {
+                store.removeByName("Nobody " + i);
+                if (store.getVersion() != version) {
+                    failures.add("Removing an unknown name changed version " + version);
+                }
+            } else if (choice <= 2 || model.isEmpty()) {
+                final var employee = employee("Added " + i);
+                model.put(employee.getId(), employee);
+                committed.put(version + 1, List.copyOf(model.keySet()));
+                store.add(employee);
+            } else {
+                final var removed = model.remove(randomKey(model, random));
+                committed.put(version + 1, List.copyOf(model.keySet()));
+                final var result = store.removeByName(removed.getName());
+                if (!result.equals(Optional.of(removed))) {
+                    failures.add("Removing " + removed.getName() + " returned " + result);
+                }
+            }
+        }
+    }
+
+    private static void verifySnapshot(
+            MockEmployeePage snapshot, Map<Long, List<UUID>> committed, Queue<String> failures) {
+        final var expected = committed.get(snapshot.version());
+        if (expected == null) {
+            failures.add("Snapshot of uncommitted version " + snapshot.version());
+        } else if (!expected.equals(ids(snapshot.employees()))) {
+            failures.add("Snapshot does not match version " + snapshot.version());
+        }
+    }
+
+    private static void verifyPage(
+            MockEmployeePage page, UUID after, Map<Long, List<UUID>> committed, Queue<String> failures) {
+        final var expected = committed.get(page.version());
+        if (expected == null) {
+            failures.add("Page of uncommitted version " + page.version());
+            return;
+        }
+        final var remaining = expected.stream()
+                .filter(id -> after == null || id.compareTo(after) > 0)
+                .toList();
+        final var expectedPage = remaining.subList(0, Math.min(PAGE_SIZE, remaining.size()));
+        final var expectedNext = remaining.size() > PAGE_SIZE ? expectedPage.get(PAGE_SIZE - 1) : null;
+        if (!expectedPage.equals(ids(page.employees())) || !Objects.equals(expectedNext, page.next())) {
+            failures.add("Page after " + after + " does not match version " + page.version());
+        }
+    }
+
+    private static UUID randomKey(NavigableMap<UUID, MockEmployee> model, Random random) {
+        final var key = model.ceilingKey(new UUID(random.nextLong(), random.nextLong()));
+        return key == null ? model.firstKey() : key;
+    }
+
+    private static List<UUID> ids(List<MockEmployee> employees) {
+        return employees.stream().map(MockEmployee::getId).toList();
+    }
+
+    private static MockEmployee employee(String name) {
+        return MockEmployee.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .salary(100000)
+                .age(30)
+                .title("Engineer")
+                .email("employee@company.com")
+                .build();
+    }
+}
@@ -0,0 +1,98 @@
+package com.reliaquest.server.service;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.reliaquest.server.config.MockEmployeeGenerator;
+import com.reliaquest.server.model.CreateMockEmployeeInput;
+import com.reliaquest.server.model.DeleteMockEmployeeInput;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import jdk.jfr.Event;
+import jdk.jfr.Name;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+
+/**
+ * Runs creates, deletes, listings and pages of the mock roster concurrently on virtual threads and
+ * fails if any of them parks while pinned to its carrier thread. Only runs on Java 21+, e.g.
+ * {@code ./gradlew server:test -PjavaVersion=21}.
+ */
+@EnabledForJreRange(min = JRE.JAVA_21)
+class VirtualThreadPinningTest {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    @Test
+    void testCrudPathsDoNotPinCarrierThreads() throws Exception {
+        final var employeeService =
+                new MockEmployeeService(new Faker(Locale.US), new MockEmployeeGenerator(Locale.US, 42).generate(1000));
+        final Queue<RecordedEvent> pinnedEvents = new ConcurrentLinkedQueue<>();
+        final var flushed = new CountDownLatch(1);
+
+        try (final var recording = new RecordingStream()) {
+            recording.enable(PINNED_EVENT).withThreshold(Duration.ZERO).withStackTrace();
+            recording.enable(Flushed.class);
+            recording.onEvent(PINNED_EVENT, pinnedEvents::add);
+            recording.onEvent(Flushed.NAME, event -> flushed.countDown());
+            recording.startAsync();
+
+            // looked up reflectively so the test source still compiles on the Java 17 toolchain
+            final var executor = (ExecutorService)
+                    Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            try {
+                final List<Future<?>> calls = new ArrayList<>();
+                for (int i = 0; i < 200; i++) {
+                    final var name = "Pinning Test " + i;
+                    calls.add(executor.submit(() -> employeeService.create(createInput(name))));
+                    calls.add(executor.submit(() -> employeeService.delete(deleteInput(name))));
+                    calls.add(executor.submit(employeeService::getMockEmployees));
+                    calls.add(executor.submit(() -> employeeService.getMockEmployeesPage(null, 100)));
+                }
+                for (final var call : calls) {
+                    call.get(30, TimeUnit.SECONDS);
+                }
+            } finally {
+                executor.shutdown();
+            }
+            // events reach the stream in commit order, so once the marker arrives every pinned event has too
+            new Flushed().commit();
+            assertTrue(flushed.await(30, TimeUnit.SECONDS), "JFR stream was not flushed");
+        }
+
+        assertTrue(pinnedEvents.isEmpty(), () -> "Carrier threads were pinned:\n" + pinnedEvents);
+    }
+
+    private static CreateMockEmployeeInput createInput(String name) {
+        final var input = new CreateMockEmployeeInput();
+        input.setName(name);
+        input.setSalary(100000);
+        input.setAge(30);
+        input.setTitle("Engineer");
+        return input;
+    }
+
+    private static DeleteMockEmployeeInput deleteInput(String name) {
+        final var input = new DeleteMockEmployeeInput();
+        input.setName(name);
+        return input;
+    }
+
+    @Name(Flushed.NAME)
+    static class Flushed extends Event {
+
+        static final String NAME = "com.reliaquest.server.VirtualThreadPinningTest.Flushed";
+    }
+}